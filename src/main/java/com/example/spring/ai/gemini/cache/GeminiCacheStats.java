@@ -0,0 +1,23 @@
+package com.example.spring.ai.gemini.cache;
+
+/**
+ * Gemini 응답 캐시 통계
+ */
+public record GeminiCacheStats(
+        boolean enabled,
+        int size,
+        int maxEntries,
+        long memoryHits,
+        long diskHits,
+        long misses,
+        long evictions,
+        double hitRate
+) {
+    public static GeminiCacheStats of(boolean enabled, int size, int maxEntries,
+                                      long memoryHits, long diskHits, long misses, long evictions) {
+        long hits = memoryHits + diskHits;
+        long total = hits + misses;
+        double hitRate = total > 0 ? (double) hits / total : 0;
+        return new GeminiCacheStats(enabled, size, maxEntries, memoryHits, diskHits, misses, evictions, hitRate);
+    }
+}
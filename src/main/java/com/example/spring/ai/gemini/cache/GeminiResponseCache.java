@@ -0,0 +1,223 @@
+package com.example.spring.ai.gemini.cache;
+
+import com.example.spring.ai.gemini.config.GeminiProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gemini 응답 캐시
+ * 모델 + 프롬프트 (+ 이미지 다이제스트)의 SHA-256 해시를 키로 응답 텍스트를 저장
+ * - 메모리: 최대 항목 수 제한 LRU + TTL
+ * - 디스크 (선택): 재시작 후에도 유지되는 2차 캐시
+ */
+@Slf4j
+@Component
+public class GeminiResponseCache {
+
+    private final GeminiProperties.Cache properties;
+    private final Map<String, Entry> memory;
+    private final Path diskDirectory;
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public GeminiResponseCache(GeminiProperties geminiProperties) {
+        this.properties = geminiProperties.getCache();
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                boolean evict = size() > properties.getMaxEntries();
+                if (evict) {
+                    evictions.incrementAndGet();
+                }
+                return evict;
+            }
+        };
+        this.diskDirectory = properties.isDiskEnabled() ? initDiskDirectory(properties.getDiskDirectory()) : null;
+    }
+
+    /**
+     * 캐시 키 생성
+     *
+     * @param model 모델명
+     * @param prompt 프롬프트 텍스트
+     * @param base64Image Base64 이미지 (없으면 null)
+     */
+    public String keyOf(String model, String prompt, String base64Image) {
+        return keyOf(model, prompt, base64Image, null);
+    }
+
+    /**
+     * 응답 스키마를 포함한 캐시 키 생성
+     *
+     * @param model 모델명
+     * @param prompt 프롬프트 텍스트
+     * @param base64Image Base64 이미지 (없으면 null)
+     * @param responseSchema 응답 JSON 스키마 (없으면 null)
+     */
+    public String keyOf(String model, String prompt, String base64Image, String responseSchema) {
+        MessageDigest digest = sha256();
+        digest.update(model.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(prompt.getBytes(StandardCharsets.UTF_8));
+        if (base64Image != null) {
+            digest.update((byte) 0);
+            digest.update(sha256().digest(base64Image.getBytes(StandardCharsets.US_ASCII)));
+        }
+        if (responseSchema != null) {
+            digest.update((byte) 1);
+            digest.update(responseSchema.getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 캐시 조회 (메모리 → 디스크 순)
+     */
+    public Optional<String> get(String key) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+
+        synchronized (memory) {
+            Entry entry = memory.get(key);
+            if (entry != null) {
+                if (!entry.isExpired(properties.getTtl())) {
+                    memoryHits.incrementAndGet();
+                    return Optional.of(entry.value());
+                }
+                memory.remove(key);
+            }
+        }
+
+        Optional<String> fromDisk = readFromDisk(key);
+        if (fromDisk.isPresent()) {
+            diskHits.incrementAndGet();
+            putInMemory(key, fromDisk.get());
+            return fromDisk;
+        }
+
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    /**
+     * 캐시 저장
+     * 디스크 기록은 호출 스레드를 막지 않도록 별도 스케줄러에서 수행
+     */
+    public void put(String key, String value) {
+        if (!properties.isEnabled() || value == null || value.isBlank()) {
+            return;
+        }
+
+        putInMemory(key, value);
+
+        if (diskDirectory != null) {
+            Schedulers.boundedElastic().schedule(() -> writeToDisk(key, value));
+        }
+    }
+
+    /**
+     * 캐시 통계
+     */
+    public GeminiCacheStats stats() {
+        int size;
+        synchronized (memory) {
+            size = memory.size();
+        }
+        return GeminiCacheStats.of(
+                properties.isEnabled(),
+                size,
+                properties.getMaxEntries(),
+                memoryHits.get(),
+                diskHits.get(),
+                misses.get(),
+                evictions.get()
+        );
+    }
+
+    private void putInMemory(String key, String value) {
+        synchronized (memory) {
+            memory.put(key, new Entry(value, Instant.now()));
+        }
+    }
+
+    private Optional<String> readFromDisk(String key) {
+        if (diskDirectory == null) {
+            return Optional.empty();
+        }
+
+        Path file = diskDirectory.resolve(key);
+        try {
+            if (!Files.exists(file)) {
+                return Optional.empty();
+            }
+            Instant modifiedAt = Files.getLastModifiedTime(file).toInstant();
+            if (modifiedAt.plus(properties.getTtl()).isBefore(Instant.now())) {
+                Files.deleteIfExists(file);
+                return Optional.empty();
+            }
+            return Optional.of(Files.readString(file, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log.warn("Failed to read Gemini cache file. key: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    private void writeToDisk(String key, String value) {
+        try {
+            // 임시 파일에 쓴 뒤 이동하여 다른 스레드가 절반만 쓰인 파일을 읽지 않도록 함
+            Path temp = Files.createTempFile(diskDirectory, key, ".tmp");
+            Files.writeString(temp, value, StandardCharsets.UTF_8);
+            Files.move(temp, diskDirectory.resolve(key),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to write Gemini cache file. key: {}", key, e);
+        }
+    }
+
+    private Path initDiskDirectory(String directory) {
+        try {
+            Path path = Paths.get(directory);
+            Files.createDirectories(path);
+            log.info("Gemini disk cache enabled. directory: {}", path.toAbsolutePath());
+            return path;
+        } catch (IOException e) {
+            log.warn("Failed to create Gemini cache directory. Disk cache disabled. directory: {}", directory, e);
+            return null;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    private record Entry(String value, Instant storedAt) {
+        boolean isExpired(Duration ttl) {
+            return storedAt.plus(ttl).isBefore(Instant.now());
+        }
+    }
+}
@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * Gemini API 설정 Properties
  */
@@ -30,10 +32,192 @@ public class GeminiProperties {
      */
     private String apiUrl = "https://generativelanguage.googleapis.com/v1beta/models";
 
+    /**
+     * 응답 캐시 설정
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * 호출량 제한 설정
+     */
+    private RateLimit rateLimit = new RateLimit();
+
+    /**
+     * 타임아웃 설정
+     */
+    private Timeout timeout = new Timeout();
+
+    /**
+     * 재시도 설정
+     */
+    private Retry retry = new Retry();
+
+    /**
+     * 서킷 브레이커 설정
+     */
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
     /**
      * 텍스트 분석 엔드포인트
      */
     public String getGenerateContentUrl() {
         return apiUrl + "/" + model + ":generateContent";
     }
+
+    /**
+     * 스트리밍 텍스트 분석 엔드포인트 (SSE)
+     */
+    public String getStreamGenerateContentUrl() {
+        return apiUrl + "/" + model + ":streamGenerateContent";
+    }
+
+    /**
+     * 응답 캐시 설정 (모델 + 프롬프트 해시 기반)
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+
+        /**
+         * 캐시 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 메모리 캐시 최대 항목 수 (초과 시 가장 오래 사용되지 않은 항목부터 제거)
+         */
+        private int maxEntries = 1000;
+
+        /**
+         * 캐시 항목 유효 시간
+         */
+        private Duration ttl = Duration.ofHours(24);
+
+        /**
+         * 디스크 캐시 사용 여부 (재시작 후에도 유지)
+         */
+        private boolean diskEnabled = false;
+
+        /**
+         * 디스크 캐시 디렉토리
+         */
+        private String diskDirectory = "./gemini-cache";
+    }
+
+    /**
+     * 호출량 제한 설정 (분당 요청/토큰 버킷 + 동시 호출 수 제한)
+     */
+    @Getter
+    @Setter
+    public static class RateLimit {
+
+        /**
+         * 호출량 제한 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 분당 최대 요청 수
+         */
+        private int requestsPerMinute = 60;
+
+        /**
+         * 분당 최대 입력 토큰 수 (추정치 기준)
+         */
+        private int tokensPerMinute = 1_000_000;
+
+        /**
+         * 동시에 진행할 수 있는 최대 호출 수
+         */
+        private int maxConcurrentRequests = 8;
+
+        /**
+         * 최대 대기열 길이 (초과 시 즉시 거절)
+         */
+        private int maxQueueSize = 1000;
+
+        /**
+         * 대기열에서 기다릴 수 있는 최대 시간 (이 안에 처리될 수 없으면 거절)
+         */
+        private Duration maxWait = Duration.ofMinutes(2);
+    }
+
+    /**
+     * 타임아웃 설정
+     */
+    @Getter
+    @Setter
+    public static class Timeout {
+
+        /**
+         * 연결 타임아웃
+         */
+        private Duration connect = Duration.ofSeconds(5);
+
+        /**
+         * 응답 읽기 타임아웃 (응답 데이터 사이의 최대 공백)
+         */
+        private Duration read = Duration.ofSeconds(60);
+
+        /**
+         * 시도 1회당 최대 시간
+         */
+        private Duration attempt = Duration.ofSeconds(90);
+
+        /**
+         * 재시도를 포함한 호출 전체의 최대 시간
+         */
+        private Duration total = Duration.ofMinutes(4);
+    }
+
+    /**
+     * 재시도 설정 (429, 5xx, 연결 오류, 타임아웃에만 적용)
+     */
+    @Getter
+    @Setter
+    public static class Retry {
+
+        /**
+         * 최초 호출을 포함한 최대 시도 횟수
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * 첫 재시도 전 대기 시간 (이후 지수적으로 증가)
+         */
+        private Duration initialBackoff = Duration.ofSeconds(1);
+
+        /**
+         * 재시도 대기 시간 상한
+         */
+        private Duration maxBackoff = Duration.ofSeconds(20);
+
+        /**
+         * 대기 시간에 적용할 무작위 편차 비율 (0.0 ~ 1.0)
+         */
+        private double jitter = 0.5;
+    }
+
+    /**
+     * 서킷 브레이커 설정
+     */
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        /**
+         * 서킷 브레이커 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 서킷을 여는 연속 실패 횟수
+         */
+        private int failureThreshold = 5;
+
+        /**
+         * 서킷이 열린 뒤 시험 호출을 허용하기까지의 시간
+         */
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
 }
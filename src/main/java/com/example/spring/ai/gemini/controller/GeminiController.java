@@ -0,0 +1,47 @@
+package com.example.spring.ai.gemini.controller;
+
+import com.example.spring.ai.gemini.cache.GeminiResponseCache;
+import com.example.spring.ai.gemini.config.GeminiProperties;
+import com.example.spring.ai.gemini.dto.GeminiStatsResponse;
+import com.example.spring.ai.gemini.ratelimit.GeminiRateLimiter;
+import com.example.spring.ai.gemini.resilience.GeminiCircuitBreaker;
+import com.example.spring.ai.gemini.service.GeminiClient;
+import com.example.spring.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Gemini 클라이언트 운영 지표 API (관리자용)
+ */
+@RestController
+@RequestMapping("/api/gemini")
+@RequiredArgsConstructor
+public class GeminiController {
+
+    private final GeminiProperties geminiProperties;
+    private final GeminiResponseCache responseCache;
+    private final GeminiClient geminiClient;
+    private final GeminiRateLimiter rateLimiter;
+    private final GeminiCircuitBreaker circuitBreaker;
+
+    /**
+     * Gemini 클라이언트 지표 조회 (캐시 적중/미스, 병합된 호출 수, 대기열 길이/대기 시간, 서킷 상태 등)
+     * GET /api/gemini/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<GeminiStatsResponse>> getStats() {
+        GeminiStatsResponse response = new GeminiStatsResponse(
+                geminiProperties.getModel(),
+                responseCache.stats(),
+                geminiClient.getInFlightCalls(),
+                geminiClient.getCoalescedCalls(),
+                rateLimiter.stats(),
+                circuitBreaker.stats()
+        );
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.spring.ai.gemini.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRawValue;
 
 import java.util.List;
 
@@ -9,7 +11,11 @@ import java.util.List;
  */
 public record GeminiRequest(
         @JsonProperty("contents")
-        List<Content> contents
+        List<Content> contents,
+
+        @JsonProperty("generationConfig")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        GenerationConfig generationConfig
 ) {
     public record Content(
             @JsonProperty("parts")
@@ -46,13 +52,34 @@ public record GeminiRequest(
             String data // Base64 encoded image
     ) {}
 
+    /**
+     * 생성 설정 (구조화된 JSON 출력)
+     */
+    public record GenerationConfig(
+            @JsonProperty("responseMimeType")
+            String responseMimeType,
+
+            @JsonProperty("responseSchema")
+            @JsonRawValue
+            String responseSchema // JSON 문자열 그대로 전송
+    ) {}
+
     /**
      * 텍스트 프롬프트로 요청 생성
      */
     public static GeminiRequest of(String prompt) {
         Part part = Part.text(prompt);
         Content content = new Content(List.of(part));
-        return new GeminiRequest(List.of(content));
+        return new GeminiRequest(List.of(content), null);
+    }
+
+    /**
+     * 텍스트 프롬프트 + 응답 스키마로 요청 생성 (JSON 출력 강제)
+     */
+    public static GeminiRequest ofJson(String prompt, String responseSchema) {
+        Part part = Part.text(prompt);
+        Content content = new Content(List.of(part));
+        return new GeminiRequest(List.of(content), new GenerationConfig("application/json", responseSchema));
     }
 
     /**
@@ -62,6 +89,6 @@ public record GeminiRequest(
         Part textPart = Part.text(prompt);
         Part imagePart = Part.image(new InlineData(mimeType, base64Image));
         Content content = new Content(List.of(textPart, imagePart));
-        return new GeminiRequest(List.of(content));
+        return new GeminiRequest(List.of(content), null);
     }
 }
@@ -0,0 +1,18 @@
+package com.example.spring.ai.gemini.dto;
+
+import com.example.spring.ai.gemini.cache.GeminiCacheStats;
+import com.example.spring.ai.gemini.ratelimit.GeminiRateLimiterStats;
+import com.example.spring.ai.gemini.resilience.GeminiCircuitBreakerStats;
+
+/**
+ * Gemini 클라이언트 운영 지표 응답
+ */
+public record GeminiStatsResponse(
+        String model,
+        GeminiCacheStats cache,
+        int inFlightCalls,
+        long coalescedCalls,
+        GeminiRateLimiterStats rateLimiter,
+        GeminiCircuitBreakerStats circuitBreaker
+) {
+}
@@ -0,0 +1,278 @@
+package com.example.spring.ai.gemini.ratelimit;
+
+import com.example.spring.ai.gemini.config.GeminiProperties;
+import com.example.spring.common.exception.GeminiRateLimitException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Gemini 호출량 제한기
+ * - 분당 요청 수 / 분당 토큰 수 토큰 버킷
+ * - 동시 호출 수 제한 (bulkhead)
+ * - FIFO 대기열: 먼저 온 요청이 먼저 허가되며, 기한 안에 처리될 수 없는 요청은 미리 거절
+ */
+@Slf4j
+@Component
+public class GeminiRateLimiter {
+
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final GeminiProperties.RateLimit properties;
+    private final Deque<Waiter> queue = new ArrayDeque<>();
+
+    // 아래 상태는 모두 this 모니터로 보호
+    private double availableRequests;
+    private double availableTokens;
+    private long lastRefillNanos;
+    private int activeRequests;
+    private long nextDrainAtNanos = Long.MAX_VALUE;
+
+    private long grantedCount;
+    private long rejectedCount;
+    private long totalWaitNanos;
+    private long maxWaitNanos;
+    private int maxQueueDepth;
+
+    public GeminiRateLimiter(GeminiProperties geminiProperties) {
+        this.properties = geminiProperties.getRateLimit();
+        this.availableRequests = properties.getRequestsPerMinute();
+        this.availableTokens = properties.getTokensPerMinute();
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 호출 허가 획득
+     * 허가가 날 때까지 스레드를 막지 않고 대기열에서 기다리며, 사용 후 반드시 {@link Permit#release()} 호출
+     *
+     * @param estimatedTokens 요청의 추정 입력 토큰 수
+     */
+    public Mono<Permit> acquire(int estimatedTokens) {
+        if (!properties.isEnabled()) {
+            return Mono.just(Permit.NOOP);
+        }
+
+        return Mono.create(sink -> {
+            long now = System.nanoTime();
+            int tokens = Math.min(Math.max(estimatedTokens, 1), properties.getTokensPerMinute());
+            Waiter waiter = new Waiter(sink, tokens, now, now + properties.getMaxWait().toNanos());
+
+            synchronized (this) {
+                if (queue.size() >= properties.getMaxQueueSize()) {
+                    rejectedCount++;
+                    sink.error(new GeminiRateLimitException("Gemini 호출 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."));
+                    return;
+                }
+                queue.addLast(waiter);
+                maxQueueDepth = Math.max(maxQueueDepth, queue.size());
+            }
+
+            sink.onCancel(() -> cancel(waiter));
+            drain();
+        });
+    }
+
+    /**
+     * 현재 제한기 상태
+     */
+    public synchronized GeminiRateLimiterStats stats() {
+        refill(System.nanoTime());
+        return new GeminiRateLimiterStats(
+                properties.isEnabled(),
+                queue.size(),
+                maxQueueDepth,
+                activeRequests,
+                properties.getMaxConcurrentRequests(),
+                (int) availableRequests,
+                (long) availableTokens,
+                grantedCount,
+                rejectedCount,
+                grantedCount > 0 ? TimeUnit.NANOSECONDS.toMillis(totalWaitNanos / grantedCount) : 0,
+                TimeUnit.NANOSECONDS.toMillis(maxWaitNanos)
+        );
+    }
+
+    /**
+     * 대기열 앞에서부터 가능한 만큼 허가
+     * 대기열 맨 앞 요청이 허가되기 전에는 뒤 요청도 허가하지 않음 (공정성 보장)
+     */
+    private void drain() {
+        List<Waiter> granted = new ArrayList<>();
+        List<Waiter> rejected = new ArrayList<>();
+
+        synchronized (this) {
+            long now = System.nanoTime();
+            refill(now);
+
+            // 기한이 지난 요청 제거
+            for (Iterator<Waiter> it = queue.iterator(); it.hasNext(); ) {
+                Waiter waiter = it.next();
+                if (waiter.deadlineNanos <= now) {
+                    it.remove();
+                    rejected.add(waiter);
+                }
+            }
+
+            while (!queue.isEmpty()) {
+                Waiter head = queue.peekFirst();
+
+                if (activeRequests >= properties.getMaxConcurrentRequests()) {
+                    // 호출 완료(release) 시 다시 drain 됨
+                    break;
+                }
+
+                long refillWait = nanosUntilAvailable(head.tokens);
+                if (refillWait > 0) {
+                    if (now + refillWait > head.deadlineNanos) {
+                        // 기한 안에 버킷이 채워질 수 없으므로 기다리지 않고 바로 거절
+                        queue.pollFirst();
+                        rejected.add(head);
+                        continue;
+                    }
+                    scheduleDrain(now, now + refillWait);
+                    break;
+                }
+
+                queue.pollFirst();
+                availableRequests -= 1;
+                availableTokens -= head.tokens;
+                activeRequests++;
+
+                long waited = now - head.enqueuedAtNanos;
+                grantedCount++;
+                totalWaitNanos += waited;
+                maxWaitNanos = Math.max(maxWaitNanos, waited);
+                granted.add(head);
+            }
+
+            // 남은 요청 중 가장 이른 기한에 맞춰 만료 처리
+            queue.stream()
+                    .mapToLong(waiter -> waiter.deadlineNanos)
+                    .min()
+                    .ifPresent(deadline -> scheduleDrain(now, deadline));
+
+            rejectedCount += rejected.size();
+        }
+
+        // 구독자 콜백은 락 밖에서 실행
+        rejected.forEach(waiter -> waiter.sink.error(new GeminiRateLimitException(
+                "Gemini 호출 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.")));
+        granted.forEach(this::grant);
+    }
+
+    private void grant(Waiter waiter) {
+        Permit permit = new Permit(this);
+        if (waiter.cancelled.get()) {
+            permit.release();
+            return;
+        }
+        waiter.sink.success(permit);
+    }
+
+    private void cancel(Waiter waiter) {
+        waiter.cancelled.set(true);
+        boolean removed;
+        synchronized (this) {
+            removed = queue.remove(waiter);
+        }
+        if (removed) {
+            drain();
+        }
+    }
+
+    private void release() {
+        synchronized (this) {
+            activeRequests--;
+        }
+        drain();
+    }
+
+    /**
+     * 경과 시간만큼 버킷 보충 (최대 분당 한도까지)
+     */
+    private void refill(long now) {
+        long elapsed = now - lastRefillNanos;
+        if (elapsed <= 0) {
+            return;
+        }
+        double minutes = (double) elapsed / NANOS_PER_MINUTE;
+        availableRequests = Math.min(properties.getRequestsPerMinute(),
+                availableRequests + minutes * properties.getRequestsPerMinute());
+        availableTokens = Math.min(properties.getTokensPerMinute(),
+                availableTokens + minutes * properties.getTokensPerMinute());
+        lastRefillNanos = now;
+    }
+
+    /**
+     * 요청 1건 + 주어진 토큰을 사용할 수 있을 때까지 남은 시간
+     */
+    private long nanosUntilAvailable(int tokens) {
+        double missingRequests = Math.max(0, 1 - availableRequests);
+        double missingTokens = Math.max(0, tokens - availableTokens);
+        double requestWait = missingRequests / properties.getRequestsPerMinute() * NANOS_PER_MINUTE;
+        double tokenWait = missingTokens / properties.getTokensPerMinute() * NANOS_PER_MINUTE;
+        return (long) Math.ceil(Math.max(requestWait, tokenWait));
+    }
+
+    private void scheduleDrain(long now, long at) {
+        if (at >= nextDrainAtNanos && nextDrainAtNanos > now) {
+            return;
+        }
+        nextDrainAtNanos = at;
+        Schedulers.parallel().schedule(() -> {
+            synchronized (this) {
+                nextDrainAtNanos = Long.MAX_VALUE;
+            }
+            drain();
+        }, Math.max(0, at - now), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 호출 허가
+     */
+    public static final class Permit {
+
+        static final Permit NOOP = new Permit(null);
+
+        private final GeminiRateLimiter limiter;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(GeminiRateLimiter limiter) {
+            this.limiter = limiter;
+        }
+
+        /**
+         * 동시 호출 슬롯 반환 (여러 번 호출해도 한 번만 반영)
+         */
+        public void release() {
+            if (limiter != null && released.compareAndSet(false, true)) {
+                limiter.release();
+            }
+        }
+    }
+
+    private static final class Waiter {
+        private final MonoSink<Permit> sink;
+        private final int tokens;
+        private final long enqueuedAtNanos;
+        private final long deadlineNanos;
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        private Waiter(MonoSink<Permit> sink, int tokens, long enqueuedAtNanos, long deadlineNanos) {
+            this.sink = sink;
+            this.tokens = tokens;
+            this.enqueuedAtNanos = enqueuedAtNanos;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+}
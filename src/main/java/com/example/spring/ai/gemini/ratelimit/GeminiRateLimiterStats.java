@@ -0,0 +1,19 @@
+package com.example.spring.ai.gemini.ratelimit;
+
+/**
+ * Gemini 호출량 제한기 통계
+ */
+public record GeminiRateLimiterStats(
+        boolean enabled,
+        int queueDepth,
+        int maxQueueDepth,
+        int activeRequests,
+        int maxConcurrentRequests,
+        int availableRequests,
+        long availableTokens,
+        long grantedCount,
+        long rejectedCount,
+        long averageWaitMillis,
+        long maxWaitMillis
+) {
+}
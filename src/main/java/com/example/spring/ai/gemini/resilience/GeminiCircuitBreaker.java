@@ -0,0 +1,202 @@
+package com.example.spring.ai.gemini.resilience;
+
+import com.example.spring.ai.gemini.config.GeminiProperties;
+import com.example.spring.common.exception.GeminiRateLimitException;
+import com.example.spring.common.exception.GeminiUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Gemini 서킷 브레이커
+ * - CLOSED: 정상 호출, 연속 실패가 임계치에 도달하면 OPEN
+ * - OPEN: 호출하지 않고 즉시 실패, 대기 시간이 지나면 HALF_OPEN
+ * - HALF_OPEN: 시험 호출 1건만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+@Slf4j
+@Component
+public class GeminiCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final GeminiProperties.CircuitBreaker properties;
+
+    // 아래 상태는 모두 this 모니터로 보호
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    private boolean trialInProgress;
+
+    private long rejectedCount;
+    private long openedCount;
+
+    public GeminiCircuitBreaker(GeminiProperties geminiProperties) {
+        this.properties = geminiProperties.getCircuitBreaker();
+    }
+
+    /**
+     * 서킷 브레이커로 호출 보호
+     * 구독 시점에 서킷 상태를 확인하고, 호출 결과를 상태에 반영
+     *
+     * @param call 보호할 호출
+     * @param isFailure 서킷 실패로 집계할 오류인지 판별 (클라이언트 오류 등은 제외)
+     */
+    public <T> Mono<T> protect(Mono<T> call, Predicate<Throwable> isFailure) {
+        if (!properties.isEnabled()) {
+            return call;
+        }
+
+        return Mono.defer(() -> {
+            Attempt attempt = enter(isFailure);
+            return call
+                    .doOnSuccess(result -> attempt.succeeded())
+                    .doOnError(attempt::failed)
+                    .doOnCancel(attempt::cancelled);
+        });
+    }
+
+    /**
+     * 스트리밍 호출 보호 (스트림이 정상 완료되어야 성공으로 집계)
+     */
+    public <T> Flux<T> protect(Flux<T> call, Predicate<Throwable> isFailure) {
+        if (!properties.isEnabled()) {
+            return call;
+        }
+
+        return Flux.defer(() -> {
+            Attempt attempt = enter(isFailure);
+            return call
+                    .doOnComplete(attempt::succeeded)
+                    .doOnError(attempt::failed)
+                    .doOnCancel(attempt::cancelled);
+        });
+    }
+
+    /**
+     * 현재 서킷 상태
+     */
+    public synchronized GeminiCircuitBreakerStats stats() {
+        return new GeminiCircuitBreakerStats(
+                properties.isEnabled(),
+                currentState(),
+                consecutiveFailures,
+                properties.getFailureThreshold(),
+                openedCount,
+                rejectedCount
+        );
+    }
+
+    /**
+     * 호출 시작 - 서킷이 열려 있으면 즉시 실패
+     */
+    private Attempt enter(Predicate<Throwable> isFailure) {
+        synchronized (this) {
+            if (!tryAcquire()) {
+                rejectedCount++;
+                throw new GeminiUnavailableException("Gemini 서비스가 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요.");
+            }
+            return new Attempt(state == State.HALF_OPEN, isFailure);
+        }
+    }
+
+    private boolean tryAcquire() {
+        switch (currentState()) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (trialInProgress) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInProgress = true;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * OPEN 상태에서 대기 시간이 지났으면 HALF_OPEN으로 간주
+     */
+    private State currentState() {
+        if (state == State.OPEN && openedAt.plus(properties.getOpenDuration()).isBefore(Instant.now())) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("Gemini circuit closed");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInProgress = false;
+    }
+
+    private synchronized void onFailure(Throwable e) {
+        consecutiveFailures++;
+        trialInProgress = false;
+
+        if (state == State.HALF_OPEN || consecutiveFailures >= properties.getFailureThreshold()) {
+            if (state != State.OPEN) {
+                openedCount++;
+                log.warn("Gemini circuit opened for {}. consecutiveFailures: {}, lastError: {}",
+                        properties.getOpenDuration(), consecutiveFailures, e.toString());
+            }
+            state = State.OPEN;
+            openedAt = Instant.now();
+        }
+    }
+
+    /**
+     * 호출 1건의 결과 기록 (성공/실패/취소 중 처음 한 번만 반영)
+     */
+    private final class Attempt {
+        private final boolean trial;
+        private final Predicate<Throwable> isFailure;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        private Attempt(boolean trial, Predicate<Throwable> isFailure) {
+            this.trial = trial;
+            this.isFailure = isFailure;
+        }
+
+        void succeeded() {
+            if (recorded.compareAndSet(false, true)) {
+                onSuccess();
+            }
+        }
+
+        void failed(Throwable e) {
+            if (e instanceof GeminiRateLimitException) {
+                // 로컬 호출량 제한으로 요청을 보내지 못한 경우는 Gemini 상태와 무관하므로 취소와 같이 처리
+                cancelled();
+                return;
+            }
+            if (recorded.compareAndSet(false, true)) {
+                if (isFailure.test(e)) {
+                    onFailure(e);
+                } else {
+                    onSuccess();
+                }
+            }
+        }
+
+        void cancelled() {
+            // 취소된 시험 호출은 결과 없이 다음 시험 호출에 자리를 넘김
+            if (trial && recorded.compareAndSet(false, true)) {
+                synchronized (GeminiCircuitBreaker.this) {
+                    trialInProgress = false;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.spring.ai.gemini.resilience;
+
+/**
+ * Gemini 서킷 브레이커 상태
+ */
+public record GeminiCircuitBreakerStats(
+        boolean enabled,
+        GeminiCircuitBreaker.State state,
+        int consecutiveFailures,
+        int failureThreshold,
+        long openedCount,
+        long rejectedCount
+) {
+}
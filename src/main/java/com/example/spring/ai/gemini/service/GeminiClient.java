@@ -1,94 +1,328 @@
 package com.example.spring.ai.gemini.service;
 
+import com.example.spring.ai.gemini.cache.GeminiResponseCache;
 import com.example.spring.ai.gemini.config.GeminiProperties;
 import com.example.spring.ai.gemini.dto.GeminiRequest;
 import com.example.spring.ai.gemini.dto.GeminiResponse;
+import com.example.spring.ai.gemini.ratelimit.GeminiRateLimiter;
+import com.example.spring.ai.gemini.resilience.GeminiCircuitBreaker;
+import com.example.spring.ai.gemini.support.TokenEstimator;
+import com.example.spring.common.exception.GeminiRateLimitException;
+import com.example.spring.common.exception.GeminiUnavailableException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Gemini API 클라이언트
+ * 비동기(Mono) API를 기본으로 제공하고, 동기 API는 이를 감싸서 제공
+ * 긴 응답을 생성되는 대로 받아야 하는 경우 스트리밍(Flux) API 사용
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GeminiClient {
 
+    /**
+     * 재시도할 업스트림 응답 상태 코드
+     */
+    private static final Set<Integer> RETRYABLE_STATUS_CODES = Set.of(429, 500, 502, 503, 504);
+
     private final WebClient webClient;
     private final GeminiProperties geminiProperties;
+    private final GeminiResponseCache responseCache;
+    private final GeminiRateLimiter rateLimiter;
+    private final GeminiCircuitBreaker circuitBreaker;
+
+    private final ConcurrentMap<String, Mono<String>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedCalls = new AtomicLong();
 
     /**
-     * 텍스트 프롬프트로 Gemini API 호출
+     * 텍스트 프롬프트로 Gemini API 호출 (동기)
      *
      * @param prompt 프롬프트 텍스트
      * @return Gemini AI의 응답 텍스트
      */
     public String generate(String prompt) {
-        log.info("Calling Gemini API with text prompt. promptLength: {}", prompt.length());
-
-        GeminiRequest request = GeminiRequest.of(prompt);
-
-        try {
-            GeminiResponse response = webClient.post()
-                    .uri(geminiProperties.getGenerateContentUrl() + "?key=" + geminiProperties.getApiKey())
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(GeminiResponse.class)
-                    .block();
-
-            if (response == null) {
-                log.error("Gemini API returned null response");
-                throw new RuntimeException("Gemini API 응답이 없습니다");
-            }
+        return generateAsync(prompt).block();
+    }
 
-            String result = response.getFirstText();
-            log.info("Gemini API call successful. responseLength: {}", result.length());
+    /**
+     * 텍스트 + 이미지로 Gemini Vision API 호출 (동기)
+     *
+     * @param prompt 프롬프트 텍스트
+     * @param mimeType 이미지 MIME 타입 (예: "image/jpeg", "image/png")
+     * @param base64Image Base64로 인코딩된 이미지 데이터
+     * @return Gemini AI의 응답 텍스트
+     */
+    public String generateWithImage(String prompt, String mimeType, String base64Image) {
+        return generateWithImageAsync(prompt, mimeType, base64Image).block();
+    }
 
-            return result;
+    /**
+     * 텍스트 프롬프트로 Gemini API 호출 (비동기)
+     * 구독 시점에 요청이 전송되며, 응답을 기다리는 동안 스레드를 점유하지 않음
+     *
+     * @param prompt 프롬프트 텍스트
+     * @return Gemini AI의 응답 텍스트를 방출하는 Mono
+     */
+    public Mono<String> generateAsync(String prompt) {
+        return Mono.defer(() -> {
+            log.info("Calling Gemini API with text prompt. promptLength: {}", prompt.length());
+            String cacheKey = responseCache.keyOf(geminiProperties.getModel(), prompt, null);
+            return cached(cacheKey, () -> resilientCall(GeminiRequest.of(prompt), TokenEstimator.estimate(prompt), "Gemini API"));
+        });
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to call Gemini API", e);
-            throw new RuntimeException("Gemini API 호출 실패: " + e.getMessage(), e);
-        }
+    /**
+     * 응답 스키마를 지정한 구조화 출력 호출 (비동기)
+     * 응답은 스키마를 따르는 JSON 텍스트
+     *
+     * @param prompt 프롬프트 텍스트
+     * @param responseSchema 응답 JSON 스키마 (Gemini Schema 형식의 JSON 문자열)
+     * @return 스키마를 따르는 JSON 응답 텍스트를 방출하는 Mono
+     */
+    public Mono<String> generateJsonAsync(String prompt, String responseSchema) {
+        return Mono.defer(() -> {
+            log.info("Calling Gemini API with response schema. promptLength: {}", prompt.length());
+            String cacheKey = responseCache.keyOf(geminiProperties.getModel(), prompt, null, responseSchema);
+            return cached(cacheKey,
+                    () -> resilientCall(GeminiRequest.ofJson(prompt, responseSchema),
+                            TokenEstimator.estimate(prompt) + TokenEstimator.estimate(responseSchema), "Gemini API"));
+        });
     }
 
     /**
-     * 텍스트 + 이미지로 Gemini Vision API 호출
+     * 텍스트 + 이미지로 Gemini Vision API 호출 (비동기)
      *
      * @param prompt 프롬프트 텍스트
      * @param mimeType 이미지 MIME 타입 (예: "image/jpeg", "image/png")
      * @param base64Image Base64로 인코딩된 이미지 데이터
-     * @return Gemini AI의 응답 텍스트
+     * @return Gemini AI의 응답 텍스트를 방출하는 Mono
      */
-    public String generateWithImage(String prompt, String mimeType, String base64Image) {
-        log.info("Calling Gemini Vision API. promptLength: {}, mimeType: {}",
-                prompt.length(), mimeType);
-
-        GeminiRequest request = GeminiRequest.ofWithImage(prompt, mimeType, base64Image);
-
-        try {
-            GeminiResponse response = webClient.post()
-                    .uri(geminiProperties.getGenerateContentUrl() + "?key=" + geminiProperties.getApiKey())
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(GeminiResponse.class)
-                    .block();
-
-            if (response == null) {
-                log.error("Gemini Vision API returned null response");
-                throw new RuntimeException("Gemini Vision API 응답이 없습니다");
+    public Mono<String> generateWithImageAsync(String prompt, String mimeType, String base64Image) {
+        return Mono.defer(() -> {
+            log.info("Calling Gemini Vision API. promptLength: {}, mimeType: {}",
+                    prompt.length(), mimeType);
+            String cacheKey = responseCache.keyOf(geminiProperties.getModel(), prompt, base64Image);
+            return cached(cacheKey,
+                    () -> resilientCall(GeminiRequest.ofWithImage(prompt, mimeType, base64Image),
+                            TokenEstimator.estimate(prompt) + TokenEstimator.IMAGE_TOKENS, "Gemini Vision API"));
+        });
+    }
+
+    /**
+     * 텍스트 프롬프트로 Gemini 스트리밍 API 호출
+     * 생성되는 대로 텍스트 조각을 방출하며, 완료되면 전체 응답을 캐시에 저장
+     * 첫 조각을 받기 전의 일시적 오류만 재시도 (이미 방출한 조각이 중복되지 않도록)
+     * 조각 사이 공백은 시도당 제한 시간, 재시도를 포함한 스트림 전체는 전체 제한 시간을 넘으면 타임아웃
+     *
+     * @param prompt 프롬프트 텍스트
+     * @return 응답 텍스트 조각을 순서대로 방출하는 Flux
+     */
+    public Flux<String> generateStream(String prompt) {
+        return Flux.defer(() -> {
+            log.info("Calling Gemini streaming API with text prompt. promptLength: {}", prompt.length());
+            String cacheKey = responseCache.keyOf(geminiProperties.getModel(), prompt, null);
+
+            Optional<String> cachedResult = responseCache.get(cacheKey);
+            if (cachedResult.isPresent()) {
+                log.info("Gemini response cache hit. key: {}", cacheKey);
+                return Flux.just(cachedResult.get());
             }
 
-            String result = response.getFirstText();
-            log.info("Gemini Vision API call successful. responseLength: {}", result.length());
+            GeminiRequest request = GeminiRequest.of(prompt);
+            AtomicBoolean emitted = new AtomicBoolean();
+            StringBuilder fullText = new StringBuilder();
+            // 스트림 전체 기한 (조각마다 다시 구독해도 처음 구독한 시점부터 잰 같은 기한을 공유)
+            Mono<Long> deadline = Mono.delay(geminiProperties.getTimeout().getTotal()).cache();
+
+            Flux<String> stream = Flux.usingWhen(
+                    rateLimiter.acquire(TokenEstimator.estimate(prompt)),
+                    permit -> sendStream(request),
+                    permit -> Mono.fromRunnable(permit::release)
+            );
+
+            return circuitBreaker.protect(stream, GeminiClient::isRetryable)
+                    .retryWhen(retrySpec("Gemini Streaming API", e -> !emitted.get() && isRetryable(e)))
+                    // 조각이 조금씩 계속 오더라도 전체 기한이 지나면 취소하여 허가와 자원을 반환
+                    .timeout(deadline, chunk -> deadline)
+                    .doOnNext(chunk -> {
+                        emitted.set(true);
+                        fullText.append(chunk);
+                    })
+                    .doOnComplete(() -> {
+                        log.info("Gemini streaming API call successful. responseLength: {}", fullText.length());
+                        responseCache.put(cacheKey, fullText.toString());
+                    })
+                    .onErrorMap(GeminiClient::isUnexpected, e -> callFailed("Gemini Streaming API", e));
+        });
+    }
+
+    /**
+     * 응답 캐시 적용
+     * 캐시에 있으면 API를 호출하지 않고 바로 반환, 없으면 호출 후 결과를 캐시에 저장
+     */
+    private Mono<String> cached(String cacheKey, Supplier<Mono<String>> apiCall) {
+        return responseCache.get(cacheKey)
+                .map(result -> {
+                    log.info("Gemini response cache hit. key: {}", cacheKey);
+                    return Mono.just(result);
+                })
+                .orElseGet(() -> singleFlight(cacheKey, () -> apiCall.get()
+                        .doOnNext(result -> responseCache.put(cacheKey, result))));
+    }
+
+    /**
+     * 동일 키 요청 병합
+     * 같은 프롬프트로 진행 중인 호출이 있으면 새 요청을 보내지 않고 그 결과를 공유
+     * 구독자 수를 세어 공유하므로, 마지막 구독자가 취소하면 진행 중인 호출도 취소되고 허가가 반환됨
+     */
+    private Mono<String> singleFlight(String cacheKey, Supplier<Mono<String>> apiCall) {
+        AtomicReference<Mono<String>> mine = new AtomicReference<>();
+        Mono<String> shared = inFlight.computeIfAbsent(cacheKey, key -> {
+            Mono<String> flight = apiCall.get()
+                    // 완료 후 다시 구독되어 doFinally가 또 불려도 그 사이 등록된 새 호출은 지우지 않음
+                    .doFinally(signal -> inFlight.remove(key, mine.get()))
+                    .flux()
+                    .publish()
+                    .refCount()
+                    .singleOrEmpty();
+            mine.set(flight);
+            return flight;
+        });
+
+        if (shared != mine.get()) {
+            coalescedCalls.incrementAndGet();
+            log.info("Joining in-flight Gemini call. key: {}", cacheKey);
+        }
+        return shared;
+    }
+
+    /**
+     * 진행 중인 호출에 합류한 요청 수
+     */
+    public long getCoalescedCalls() {
+        return coalescedCalls.get();
+    }
+
+    /**
+     * 현재 진행 중인 (서로 다른) 호출 수
+     */
+    public int getInFlightCalls() {
+        return inFlight.size();
+    }
 
-            return result;
+    /**
+     * 서킷 브레이커 + 재시도 + 전체 기한 적용
+     * 일시적 오류(429, 5xx, 연결 오류, 타임아웃)만 지터가 적용된 지수 백오프로 재시도하며,
+     * 재시도마다 서킷 상태 확인과 호출량 제한 허가를 새로 받음
+     */
+    private Mono<String> resilientCall(GeminiRequest request, int estimatedTokens, String apiName) {
+        return circuitBreaker.protect(call(request, estimatedTokens, apiName), GeminiClient::isRetryable)
+                .retryWhen(retrySpec(apiName, GeminiClient::isRetryable))
+                .timeout(geminiProperties.getTimeout().getTotal())
+                .onErrorMap(GeminiClient::isUnexpected, e -> callFailed(apiName, e));
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to call Gemini Vision API", e);
-            throw new RuntimeException("Gemini Vision API 호출 실패: " + e.getMessage(), e);
+    /**
+     * 지터가 적용된 지수 백오프 재시도 정책
+     * 재시도가 모두 실패하면 마지막 오류를 그대로 전달
+     */
+    private Retry retrySpec(String apiName, Predicate<Throwable> retryable) {
+        GeminiProperties.Retry retry = geminiProperties.getRetry();
+        return Retry.backoff(Math.max(retry.getMaxAttempts() - 1, 0), retry.getInitialBackoff())
+                .maxBackoff(retry.getMaxBackoff())
+                .jitter(retry.getJitter())
+                .filter(retryable)
+                .doBeforeRetry(signal -> log.warn("Retrying {}. attempt: {}, error: {}",
+                        apiName, signal.totalRetries() + 2, signal.failure().toString()))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    private RuntimeException callFailed(String apiName, Throwable e) {
+        log.error("Failed to call {}", apiName, e);
+        return new RuntimeException(apiName + " 호출 실패: " + e.getMessage(), e);
+    }
+
+    /**
+     * 호출량 제한/서킷 차단 이외의 오류인지 판별 (이 두 예외는 그대로 전달)
+     */
+    private static boolean isUnexpected(Throwable e) {
+        return !(e instanceof GeminiRateLimitException || e instanceof GeminiUnavailableException);
+    }
+
+    /**
+     * 재시도 가능한 일시적 오류인지 판별
+     */
+    private static boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return RETRYABLE_STATUS_CODES.contains(responseException.getStatusCode().value());
         }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+
+    /**
+     * 호출량 제한 허가를 받은 뒤 generateContent 호출
+     * 허가는 호출이 끝나거나 취소될 때 반환
+     */
+    private Mono<String> call(GeminiRequest request, int estimatedTokens, String apiName) {
+        return Mono.usingWhen(
+                rateLimiter.acquire(estimatedTokens),
+                permit -> send(request, apiName),
+                permit -> Mono.fromRunnable(permit::release)
+        );
+    }
+
+    /**
+     * streamGenerateContent 호출 (SSE) 및 조각별 텍스트 추출
+     * 조각 사이 공백이 시도당 제한 시간을 넘으면 타임아웃
+     */
+    private Flux<String> sendStream(GeminiRequest request) {
+        return webClient.post()
+                .uri(geminiProperties.getStreamGenerateContentUrl() + "?alt=sse&key=" + geminiProperties.getApiKey())
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToFlux(GeminiResponse.class)
+                .timeout(geminiProperties.getTimeout().getAttempt())
+                .map(GeminiResponse::getFirstText)
+                .filter(text -> !text.isEmpty());
+    }
+
+    /**
+     * generateContent 호출 및 응답 텍스트 추출
+     */
+    private Mono<String> send(GeminiRequest request, String apiName) {
+        return webClient.post()
+                .uri(geminiProperties.getGenerateContentUrl() + "?key=" + geminiProperties.getApiKey())
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(GeminiResponse.class)
+                .timeout(geminiProperties.getTimeout().getAttempt())
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.error("{} returned null response", apiName);
+                    return Mono.error(new IllegalStateException(apiName + " 응답이 없습니다"));
+                }))
+                .map(GeminiResponse::getFirstText)
+                .doOnNext(result -> log.info("{} call successful. responseLength: {}", apiName, result.length()));
     }
 }
@@ -0,0 +1,38 @@
+package com.example.spring.ai.gemini.support;
+
+/**
+ * 토큰 수 추정기
+ * 정확한 토크나이저 대신 문자 종류별 평균값으로 추정 (한글/한자 1자 ≈ 1토큰, 그 외 4자 ≈ 1토큰)
+ */
+public final class TokenEstimator {
+
+    /**
+     * 이미지 1장당 추정 토큰 수
+     */
+    public static final int IMAGE_TOKENS = 258;
+
+    private TokenEstimator() {
+    }
+
+    /**
+     * 텍스트의 토큰 수 추정
+     */
+    public static int estimate(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+
+        int wideChars = 0;
+        int otherChars = 0;
+        for (int i = 0; i < text.length(); i++) {
+            Character.UnicodeScript script = Character.UnicodeScript.of(text.charAt(i));
+            if (script == Character.UnicodeScript.HANGUL || script == Character.UnicodeScript.HAN) {
+                wideChars++;
+            } else {
+                otherChars++;
+            }
+        }
+
+        return wideChars + (otherChars + 3) / 4;
+    }
+}
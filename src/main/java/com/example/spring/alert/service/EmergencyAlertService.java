@@ -13,6 +13,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -32,6 +37,7 @@ public class EmergencyAlertService {
     private final MessageRepository messageRepository;
     private final ConversationRepository conversationRepository;
     private final EmergencyAlertRepository emergencyAlertRepository;
+    private final TransactionTemplate transactionTemplate;
 
     // 고위험 키워드 정의
     private static final Map<AlertType, List<String>> RISK_KEYWORDS = Map.of(
@@ -49,11 +55,12 @@ public class EmergencyAlertService {
 
     /**
      * 특정 가족의 최근 메시지를 분석하여 긴급 상황 감지
+     * Gemini 호출 동안 DB 커넥션을 점유하지 않도록 조회 → AI 분석 → 저장 단계로 분리
      */
-    @Transactional
     public void detectEmergencies(Long familyId) {
         log.info("Detecting emergencies for family. familyId: {}", familyId);
 
+        // 1. 조회 단계
         Family family = familyRepository.findById(familyId)
                 .orElseThrow(() -> new IllegalArgumentException("가족 그룹을 찾을 수 없습니다. familyId: " + familyId));
 
@@ -62,18 +69,33 @@ public class EmergencyAlertService {
         List<Message> recentMessages = messageRepository.findRecentMessagesByFamilyId(familyId, since);
 
         // 고위험 키워드 감지
-        detectHighRiskKeywords(family, recentMessages);
+        List<KeywordDetection> detections = detectHighRiskKeywords(family, recentMessages);
+
+        // 2. AI 분석 단계 (트랜잭션 없음) - 감지된 타입들의 맥락을 동시에 분석 (오탐 방지)
+        List<Tuple2<KeywordDetection, String>> analyzed = Flux.fromIterable(detections)
+                .flatMapSequential(detection -> analyzeEmergencyContext(detection.alertType(), detection.matchedMessages())
+                        .map(aiAnalysis -> Tuples.of(detection, aiAnalysis)))
+                .collectList()
+                .block();
 
-        // 무응답 감지 (48시간)
-        detectNoResponse(family);
+        // 3. 저장 단계
+        transactionTemplate.executeWithoutResult(status -> {
+            analyzed.forEach(result -> createEmergencyAlert(family, result.getT1(), result.getT2()));
+
+            // 무응답 감지 (48시간)
+            detectNoResponse(family);
+        });
 
         log.info("Emergency detection completed. familyId: {}", familyId);
     }
 
     /**
      * 고위험 키워드 감지
+     * 최근 1시간 내 동일 타입 알림이 없는 감지 결과만 반환
      */
-    private void detectHighRiskKeywords(Family family, List<Message> messages) {
+    private List<KeywordDetection> detectHighRiskKeywords(Family family, List<Message> messages) {
+        List<KeywordDetection> detections = new ArrayList<>();
+
         for (Map.Entry<AlertType, List<String>> entry : RISK_KEYWORDS.entrySet()) {
             AlertType alertType = entry.getKey();
             List<String> keywords = entry.getValue();
@@ -101,14 +123,21 @@ public class EmergencyAlertService {
             // 키워드가 감지된 경우
             if (!detectedKeywords.isEmpty()) {
                 // 최근 1시간 내 동일 타입 알림이 없는 경우만 생성 (중복 방지)
-                LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
-                if (!emergencyAlertRepository.existsByFamilyAndAlertTypeAndCreatedAtAfter(
-                        family, alertType, oneHourAgo)) {
-
-                    createEmergencyAlert(family, alertType, detectedKeywords, matchedMessages);
+                if (!hasRecentAlert(family, alertType)) {
+                    detections.add(new KeywordDetection(alertType, detectedKeywords, matchedMessages));
                 }
             }
         }
+
+        return detections;
+    }
+
+    /**
+     * 최근 1시간 내 동일 타입 알림 존재 여부
+     */
+    private boolean hasRecentAlert(Family family, AlertType alertType) {
+        LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
+        return emergencyAlertRepository.existsByFamilyAndAlertTypeAndCreatedAtAfter(family, alertType, oneHourAgo);
     }
 
     /**
@@ -136,17 +165,21 @@ public class EmergencyAlertService {
     /**
      * 긴급 알림 생성 (고위험 키워드)
      */
-    private void createEmergencyAlert(Family family, AlertType alertType,
-                                       List<String> detectedKeywords,
-                                       List<String> matchedMessages) {
+    private void createEmergencyAlert(Family family, KeywordDetection detection, String aiAnalysis) {
+        AlertType alertType = detection.alertType();
+        List<String> detectedKeywords = detection.detectedKeywords();
+
+        // AI 분석 도중 다른 실행이 같은 타입 알림을 먼저 저장했다면 건너뜀
+        if (hasRecentAlert(family, alertType)) {
+            log.info("Alert already created concurrently. familyId: {}, alertType: {}", family.getId(), alertType);
+            return;
+        }
+
         log.warn("Emergency detected! familyId: {}, alertType: {}, keywords: {}",
                 family.getId(), alertType, detectedKeywords);
 
-        // AI로 상황 분석 (오탐 방지)
-        String aiAnalysis = analyzeEmergencyContext(alertType, matchedMessages);
-
         String title = generateAlertTitle(alertType);
-        String content = generateAlertContent(alertType, detectedKeywords, matchedMessages.size());
+        String content = generateAlertContent(alertType, detectedKeywords, detection.matchedMessages().size());
 
         EmergencyAlert alert = EmergencyAlert.builder()
                 .family(family)
@@ -196,7 +229,7 @@ public class EmergencyAlertService {
     /**
      * AI로 긴급 상황 맥락 분석 (오탐 방지)
      */
-    private String analyzeEmergencyContext(AlertType alertType, List<String> messages) {
+    private Mono<String> analyzeEmergencyContext(AlertType alertType, List<String> messages) {
         String prompt = String.format("""
                 다음 대화에서 '%s' 타입의 긴급 상황이 감지되었습니다.
                 이것이 실제 긴급 상황인지 분석해주세요.
@@ -210,12 +243,11 @@ public class EmergencyAlertService {
                 - 권장 조치사항
                 """, alertType.name(), String.join("\n", messages));
 
-        try {
-            return geminiClient.generate(prompt);
-        } catch (Exception e) {
-            log.error("Failed to analyze emergency context", e);
-            return "AI 분석 실패. 수동 확인 필요.";
-        }
+        return geminiClient.generateAsync(prompt)
+                .onErrorResume(e -> {
+                    log.error("Failed to analyze emergency context", e);
+                    return Mono.just("AI 분석 실패. 수동 확인 필요.");
+                });
     }
 
     /**
@@ -289,4 +321,9 @@ public class EmergencyAlertService {
         alert.acknowledge();
         log.info("Alert acknowledged. alertId: {}", alertId);
     }
+
+    /**
+     * 알림 타입별 키워드 감지 결과
+     */
+    private record KeywordDetection(AlertType alertType, List<String> detectedKeywords, List<String> matchedMessages) {}
 }
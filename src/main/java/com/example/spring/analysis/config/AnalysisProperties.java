@@ -0,0 +1,145 @@
+package com.example.spring.analysis.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * AI 분석 설정 Properties
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "analysis")
+public class AnalysisProperties {
+
+    /**
+     * 분석 호출 방식
+     */
+    private Mode mode = Mode.SEPARATE;
+
+    /**
+     * 분석 호출 1회에 넣을 대화 텍스트의 최대 추정 토큰 수
+     * 넘으면 대화를 조각으로 나눠 요약한 뒤 요약본으로 분석 (map-reduce)
+     */
+    private int transcriptTokenBudget = 30_000;
+
+    /**
+     * 요약할 대화 조각 1개의 최대 추정 토큰 수
+     */
+    private int chunkTokenBudget = 8_000;
+
+    /**
+     * 동시에 요약할 대화 조각 수
+     */
+    private int chunkConcurrency = 4;
+
+    /**
+     * 전체 가족 분석 실행 설정
+     */
+    private Scheduler scheduler = new Scheduler();
+
+    /**
+     * 업로드 시 분석 예약 설정
+     */
+    private Trigger trigger = new Trigger();
+
+    /**
+     * 위험도 기반 분석 순서/주기 설정
+     */
+    private Priority priority = new Priority();
+
+    public enum Mode {
+        /**
+         * 건강/감정/니즈를 각각 호출 (3회)
+         */
+        SEPARATE,
+
+        /**
+         * 응답 스키마를 지정한 한 번의 호출로 세 분석을 함께 수행
+         */
+        COMBINED
+    }
+
+    /**
+     * 전체 가족 분석 실행 설정
+     */
+    @Getter
+    @Setter
+    public static class Scheduler {
+
+        /**
+         * 동시에 분석할 최대 가족 수
+         */
+        private int concurrency = 8;
+    }
+
+    /**
+     * 메시지 업로드 시 분석 예약 설정
+     */
+    @Getter
+    @Setter
+    public static class Trigger {
+
+        /**
+         * 업로드 시 분석 예약 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 마지막 업로드 후 분석까지 대기 시간
+         */
+        private Duration debounce = Duration.ofMinutes(10);
+
+        /**
+         * 업로드가 계속 이어져도 첫 업로드 후 이 시간이 지나면 분석
+         */
+        private Duration maxDelay = Duration.ofMinutes(30);
+    }
+
+    /**
+     * 위험도 기반 분석 순서/주기 설정
+     */
+    @Getter
+    @Setter
+    public static class Priority {
+
+        /**
+         * 위험도 기반 순서/주기 적용 여부 (끄면 모든 가족을 ID 순으로 매일 분석)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 위험 지표를 볼 최근 일수
+         */
+        private int lookbackDays = 7;
+
+        /**
+         * 고위험으로 보는 최소 위험 점수
+         */
+        private int highRiskScore = 15;
+
+        /**
+         * 고위험 후보로 볼 건강 인사이트 최소 심각도
+         */
+        private int healthSeverityThreshold = 7;
+
+        /**
+         * 고위험 후보로 볼 감정 점수 상한
+         */
+        private int emotionScoreThreshold = -5;
+
+        /**
+         * 최근 메시지가 이보다 적으면 대화가 적은 가족으로 봄
+         */
+        private int lowActivityMessageCount = 5;
+
+        /**
+         * 대화가 적은 가족의 분석 주기 (일)
+         */
+        private int lowActivityIntervalDays = 3;
+    }
+}
@@ -3,6 +3,9 @@ package com.example.spring.analysis.controller;
 import com.example.spring.analysis.scheduler.AnalysisScheduler;
 import com.example.spring.analysis.service.AnalysisService;
 import com.example.spring.common.dto.ApiResponse;
+import com.example.spring.job.domain.JobType;
+import com.example.spring.job.dto.JobResponse;
+import com.example.spring.job.service.JobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +23,7 @@ public class AnalysisController {
 
     private final AnalysisService analysisService;
     private final AnalysisScheduler analysisScheduler;
+    private final JobService jobService;
 
     /**
      * 특정 가족의 AI 분석 수동 실행
@@ -60,22 +64,17 @@ public class AnalysisController {
     /**
      * 전체 가족 분석 수동 실행 (관리자용)
      * POST /api/analysis/run-all
+     * 작업 큐에 등록되며, 이미 대기/실행 중인 전체 분석이 있으면 그 작업을 반환
+     * 진행 상황은 GET /api/jobs/{jobId} 로 확인
      */
     @PostMapping("/run-all")
-    public ResponseEntity<ApiResponse<Void>> runAllAnalysis() {
+    public ResponseEntity<ApiResponse<JobResponse>> runAllAnalysis() {
 
         log.info("Manual analysis for all families triggered");
 
-        // 스케줄러의 매일 분석 로직 실행
-        new Thread(() -> {
-            try {
-                analysisScheduler.runDailyAnalysis();
-            } catch (Exception e) {
-                log.error("Failed to run daily analysis manually", e);
-            }
-        }).start();
+        JobResponse job = jobService.submit(JobType.ANALYZE_ALL_FAMILIES, null);
 
-        return ResponseEntity.ok(ApiResponse.success(null,
-                "모든 가족의 분석이 백그라운드에서 실행 중입니다."));
+        return ResponseEntity.ok(ApiResponse.success(job,
+                "모든 가족의 분석 작업이 등록되었습니다."));
     }
 }
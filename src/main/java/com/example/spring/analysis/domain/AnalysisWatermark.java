@@ -0,0 +1,68 @@
+package com.example.spring.analysis.domain;
+
+import com.example.spring.family.domain.Family;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가족별 분석 워터마크
+ * 마지막으로 분석에 반영한 메시지 위치를 기록하여 다음 분석에서 새 메시지만 처리
+ */
+@Entity
+@Table(name = "analysis_watermarks")
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnalysisWatermark {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 분석 대상 가족
+     */
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "family_id", nullable = false, unique = true)
+    private Family family;
+
+    /**
+     * 마지막으로 분석에 반영한 메시지 ID
+     */
+    @Column(nullable = false)
+    private Long lastMessageId;
+
+    /**
+     * 마지막으로 분석에 반영한 메시지의 전송 시각
+     */
+    @Column(nullable = false)
+    private LocalDateTime lastSentAt;
+
+    /**
+     * 마지막 분석 시각
+     */
+    @Column(nullable = false)
+    private LocalDateTime analyzedAt;
+
+    /**
+     * 수정 시각
+     */
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public AnalysisWatermark(Family family, Long lastMessageId, LocalDateTime lastSentAt, LocalDateTime analyzedAt) {
+        this.family = family;
+        this.lastMessageId = lastMessageId;
+        this.lastSentAt = lastSentAt;
+        this.analyzedAt = analyzedAt != null ? analyzedAt : LocalDateTime.now();
+    }
+}
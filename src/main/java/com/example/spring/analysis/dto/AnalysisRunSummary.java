@@ -0,0 +1,49 @@
+package com.example.spring.analysis.dto;
+
+import java.util.List;
+
+/**
+ * 전체 가족 분석 실행 결과 요약
+ */
+public record AnalysisRunSummary(
+        int totalFamilies,
+        int succeeded,
+        int failed,
+        long elapsedMillis,
+        double familiesPerSecond,
+        long p50LatencyMillis,
+        long p99LatencyMillis,
+        long maxLatencyMillis,
+        List<Long> failedFamilyIds
+) {
+    /**
+     * 가족별 소요 시간으로 요약 생성
+     *
+     * @param latenciesMillis 가족별 처리 시간 (성공/실패 모두 포함)
+     */
+    public static AnalysisRunSummary of(List<Long> latenciesMillis, List<Long> failedFamilyIds, long elapsedMillis) {
+        List<Long> sorted = latenciesMillis.stream().sorted().toList();
+        int total = sorted.size();
+        double seconds = elapsedMillis / 1000.0;
+
+        return new AnalysisRunSummary(
+                total,
+                total - failedFamilyIds.size(),
+                failedFamilyIds.size(),
+                elapsedMillis,
+                seconds > 0 ? total / seconds : 0,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.99),
+                sorted.isEmpty() ? 0 : sorted.get(total - 1),
+                List.copyOf(failedFamilyIds)
+        );
+    }
+
+    private static long percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0));
+    }
+}
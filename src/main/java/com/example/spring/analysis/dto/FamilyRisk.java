@@ -0,0 +1,32 @@
+package com.example.spring.analysis.dto;
+
+/**
+ * 가족 위험도
+ *
+ * @param familyId 가족 ID
+ * @param score 위험 점수 (높을수록 먼저, 자주 분석)
+ * @param tier 분석 주기 등급
+ */
+public record FamilyRisk(
+        Long familyId,
+        int score,
+        Tier tier
+) {
+
+    public enum Tier {
+        /**
+         * 고위험: 야간 분석 외에 하루 중 추가 분석
+         */
+        HIGH,
+
+        /**
+         * 보통: 매일 분석
+         */
+        NORMAL,
+
+        /**
+         * 대화가 적음: 며칠에 한 번 분석
+         */
+        LOW
+    }
+}
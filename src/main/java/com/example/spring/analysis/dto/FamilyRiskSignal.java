@@ -0,0 +1,21 @@
+package com.example.spring.analysis.dto;
+
+/**
+ * 가족 위험도 산정에 쓰는 최근 지표
+ *
+ * @param familyId 가족 ID
+ * @param maxHealthSeverity 최근 건강 인사이트 최고 심각도 (없으면 null)
+ * @param minEmotionScore 최근 감정 인사이트 최저 점수 (없으면 null)
+ * @param openAlertCount 최근 미확인 긴급 알림 수
+ * @param maxOpenAlertSeverity 최근 미확인 긴급 알림 최고 심각도 (없으면 null)
+ * @param recentMessageCount 최근 메시지 수
+ */
+public record FamilyRiskSignal(
+        Long familyId,
+        Integer maxHealthSeverity,
+        Integer minEmotionScore,
+        Long openAlertCount,
+        Integer maxOpenAlertSeverity,
+        Long recentMessageCount
+) {
+}
@@ -0,0 +1,41 @@
+package com.example.spring.analysis.listener;
+
+import com.example.spring.analysis.config.AnalysisProperties;
+import com.example.spring.conversation.event.MessagesUploadedEvent;
+import com.example.spring.job.domain.JobType;
+import com.example.spring.job.service.JobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 메시지 업로드 시 가족 분석 예약
+ * 업로드가 이어지는 동안은 실행을 미루고, 마지막 업로드 후 일정 시간이 지나면 한 번만 분석
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessagesUploadedListener {
+
+    private final JobService jobService;
+    private final AnalysisProperties analysisProperties;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMessagesUploaded(MessagesUploadedEvent event) {
+        AnalysisProperties.Trigger trigger = analysisProperties.getTrigger();
+        if (!trigger.isEnabled() || event.messageCount() == 0) {
+            return;
+        }
+
+        try {
+            jobService.enqueueDebounced(JobType.FAMILY_ANALYSIS, event.familyId(),
+                    trigger.getDebounce(), trigger.getMaxDelay());
+        } catch (Exception e) {
+            // 예약에 실패해도 업로드는 이미 커밋되었으므로 야간 분석에서 반영됨
+            log.error("Failed to schedule analysis after upload. familyId: {}, conversationId: {}",
+                    event.familyId(), event.conversationId(), e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.spring.analysis.repository;
+
+import com.example.spring.analysis.domain.AnalysisWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 분석 워터마크 Repository
+ */
+@Repository
+public interface AnalysisWatermarkRepository extends JpaRepository<AnalysisWatermark, Long> {
+
+    /**
+     * 특정 가족의 분석 워터마크 조회
+     */
+    @Query("SELECT w FROM AnalysisWatermark w WHERE w.family.id = :familyId")
+    Optional<AnalysisWatermark> findByFamilyId(@Param("familyId") Long familyId);
+
+    /**
+     * 워터마크 생성 또는 전진 (이전 위치보다 뒤인 경우에만 메시지 위치 갱신)
+     * 같은 가족의 첫 분석이 동시에 끝나도 유니크 제약 위반 없이 한 행으로 합쳐짐
+     */
+    @Modifying
+    @Query(value = "INSERT INTO analysis_watermarks " +
+            "(family_id, last_message_id, last_sent_at, analyzed_at, updated_at) " +
+            "VALUES (:familyId, :lastMessageId, :lastSentAt, :analyzedAt, :analyzedAt) " +
+            "ON CONFLICT (family_id) DO UPDATE SET " +
+            "last_sent_at = CASE WHEN EXCLUDED.last_message_id > analysis_watermarks.last_message_id " +
+            "THEN EXCLUDED.last_sent_at ELSE analysis_watermarks.last_sent_at END, " +
+            "last_message_id = GREATEST(analysis_watermarks.last_message_id, EXCLUDED.last_message_id), " +
+            "analyzed_at = EXCLUDED.analyzed_at, " +
+            "updated_at = EXCLUDED.updated_at", nativeQuery = true)
+    int upsertAdvance(
+            @Param("familyId") Long familyId,
+            @Param("lastMessageId") Long lastMessageId,
+            @Param("lastSentAt") LocalDateTime lastSentAt,
+            @Param("analyzedAt") LocalDateTime analyzedAt
+    );
+}
@@ -0,0 +1,53 @@
+package com.example.spring.analysis.repository;
+
+import com.example.spring.analysis.dto.FamilyRiskSignal;
+import com.example.spring.family.domain.Family;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 가족 위험도 지표 조회 Repository
+ */
+public interface FamilyRiskRepository extends Repository<Family, Long> {
+
+    /**
+     * 여러 가족의 최근 위험 지표를 한 번에 조회
+     */
+    @Query("SELECT new com.example.spring.analysis.dto.FamilyRiskSignal(f.id, " +
+            "(SELECT MAX(h.severity) FROM HealthInsight h WHERE h.family = f AND h.analyzedAt >= :since), " +
+            "(SELECT MIN(e.emotionScore) FROM EmotionInsight e WHERE e.family = f AND e.analyzedAt >= :since), " +
+            "(SELECT COUNT(a) FROM EmergencyAlert a " +
+            "WHERE a.family = f AND a.acknowledged = false AND a.createdAt >= :since), " +
+            "(SELECT MAX(a.severity) FROM EmergencyAlert a " +
+            "WHERE a.family = f AND a.acknowledged = false AND a.createdAt >= :since), " +
+            "(SELECT COUNT(m) FROM Message m WHERE m.familyId = f.id AND m.sentAt >= :since)) " +
+            "FROM Family f " +
+            "WHERE f.id IN :familyIds")
+    List<FamilyRiskSignal> findSignals(
+            @Param("familyIds") Collection<Long> familyIds,
+            @Param("since") LocalDateTime since
+    );
+
+    /**
+     * 고위험 후보 가족 ID 조회
+     * 최근 심각한 건강 인사이트, 강한 부정 감정, 미확인 긴급 알림 중 하나라도 있는 가족
+     */
+    @Query("SELECT f.id FROM Family f " +
+            "WHERE EXISTS (SELECT h FROM HealthInsight h " +
+            "WHERE h.family = f AND h.analyzedAt >= :since AND h.severity >= :healthSeverity) " +
+            "OR EXISTS (SELECT e FROM EmotionInsight e " +
+            "WHERE e.family = f AND e.analyzedAt >= :since AND e.emotionScore <= :emotionScore) " +
+            "OR EXISTS (SELECT a FROM EmergencyAlert a " +
+            "WHERE a.family = f AND a.acknowledged = false AND a.createdAt >= :since) " +
+            "ORDER BY f.id")
+    List<Long> findHighRiskCandidateIds(
+            @Param("since") LocalDateTime since,
+            @Param("healthSeverity") int healthSeverity,
+            @Param("emotionScore") int emotionScore
+    );
+}
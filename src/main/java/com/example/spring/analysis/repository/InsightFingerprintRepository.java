@@ -0,0 +1,28 @@
+package com.example.spring.analysis.repository;
+
+import com.example.spring.family.domain.Family;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 인사이트 분석 구간 지문 조회 Repository
+ */
+public interface InsightFingerprintRepository extends Repository<Family, Long> {
+
+    /**
+     * 가장 최근 건강/감정/니즈 인사이트가 모두 주어진 구간 지문으로 분석되었는지 한 번에 확인
+     */
+    @Query("SELECT COUNT(f) > 0 FROM Family f " +
+            "WHERE f.id = :familyId " +
+            "AND EXISTS (SELECT h FROM HealthInsight h " +
+            "WHERE h.family = f AND h.sourceFingerprint = :fingerprint " +
+            "AND h.analyzedAt = (SELECT MAX(h2.analyzedAt) FROM HealthInsight h2 WHERE h2.family = f)) " +
+            "AND EXISTS (SELECT e FROM EmotionInsight e " +
+            "WHERE e.family = f AND e.sourceFingerprint = :fingerprint " +
+            "AND e.analyzedAt = (SELECT MAX(e2.analyzedAt) FROM EmotionInsight e2 WHERE e2.family = f)) " +
+            "AND EXISTS (SELECT n FROM NeedsInsight n " +
+            "WHERE n.family = f AND n.sourceFingerprint = :fingerprint " +
+            "AND n.analyzedAt = (SELECT MAX(n2.analyzedAt) FROM NeedsInsight n2 WHERE n2.family = f))")
+    boolean isLatestAnalyzedWith(@Param("familyId") Long familyId, @Param("fingerprint") String fingerprint);
+}
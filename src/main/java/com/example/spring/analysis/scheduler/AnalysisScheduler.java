@@ -1,58 +1,226 @@
 package com.example.spring.analysis.scheduler;
 
 import com.example.spring.alert.service.EmergencyAlertService;
+import com.example.spring.analysis.config.AnalysisProperties;
+import com.example.spring.analysis.dto.AnalysisRunSummary;
+import com.example.spring.analysis.dto.FamilyRisk;
 import com.example.spring.analysis.service.AnalysisService;
-import com.example.spring.family.domain.Family;
-import com.example.spring.family.repository.FamilyRepository;
+import com.example.spring.analysis.service.FamilyRiskService;
+import com.example.spring.job.domain.JobType;
+import com.example.spring.job.service.JobService;
+import com.example.spring.schedule.service.ShardedFamilyRunner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * AI 분석 스케줄러
- * 매일 자정에 모든 가족의 대화를 분석하고 긴급 상황 감지
+ * 매일 자정에 모든 가족의 대화를 분석하고 긴급 상황 감지 (가족 단위 병렬 처리)
+ * 여러 노드에서 실행 시 가족 샤드를 나누어 처리
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AnalysisScheduler {
 
+    private static final String DAILY_ANALYSIS_TASK = "daily-analysis";
+
     private final AnalysisService analysisService;
     private final EmergencyAlertService emergencyAlertService;
-    private final FamilyRepository familyRepository;
+    private final FamilyRiskService familyRiskService;
+    private final JobService jobService;
+    private final ShardedFamilyRunner shardedFamilyRunner;
+    private final AnalysisProperties analysisProperties;
+
+    private final AtomicBoolean running = new AtomicBoolean();
 
     /**
      * 매일 자정에 실행
      * 모든 가족 그룹의 최근 7일 대화를 분석
+     * 모든 노드에서 실행되며, 각 노드는 임대한 샤드의 가족만 처리
+     * 샤드 순회는 페이지 안에서만 위험도 순이므로, 먼저 전체 고위험 가족을 우선순위 작업으로 등록해 샤드와 무관하게 앞서 처리
      */
     @Scheduled(cron = "0 0 0 * * *")
     public void runDailyAnalysis() {
         log.info("Starting daily analysis scheduler");
+        enqueueHighRiskFamilies();
+        runDailyAnalysisOnce();
+    }
+
+    /**
+     * 오늘 실행 중 처리하던 노드가 중단되어 남은 샤드가 있으면 이어서 처리
+     */
+    @Scheduled(fixedDelayString = "${schedule.resume-interval:5m}", initialDelayString = "${schedule.resume-interval:5m}")
+    public void resumeDailyAnalysis() {
+        if (running.get() || !shardedFamilyRunner.hasClaimableShards(DAILY_ANALYSIS_TASK, todayRunKey())) {
+            return;
+        }
+        log.info("Resuming daily analysis with unclaimed shards");
+        runDailyAnalysisOnce();
+    }
+
+    private void runDailyAnalysisOnce() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Daily analysis is already running on this node");
+            return;
+        }
+
+        try {
+            AnalysisRunSummary summary = analyzeAllFamilies(7);
 
-        List<Family> families = familyRepository.findAll();
+            log.info("Daily analysis scheduler completed on this node. families: {}, succeeded: {}, failed: {}, " +
+                            "elapsedMs: {}, familiesPerSecond: {}, p50Ms: {}, p99Ms: {}, maxMs: {}",
+                    summary.totalFamilies(), summary.succeeded(), summary.failed(), summary.elapsedMillis(),
+                    String.format("%.2f", summary.familiesPerSecond()), summary.p50LatencyMillis(),
+                    summary.p99LatencyMillis(), summary.maxLatencyMillis());
+            if (summary.failed() > 0) {
+                log.warn("Daily analysis failed for families: {}", summary.failedFamilyIds());
+            }
+        } finally {
+            running.set(false);
+        }
+    }
 
-        log.info("Found {} families to analyze", families.size());
+    /**
+     * 이 노드가 임대한 샤드의 가족을 병렬로 분석
+     * 가족 ID를 페이지 단위로 받아 위험 점수가 높은 가족부터 가상 스레드에서 최대 동시 실행 수만큼 처리하고,
+     * (위험도 정렬은 한 페이지 안에서만 적용되며, 샤드 간 순서는 고위험 가족 작업 등록으로 보완)
+     * 페이지의 모든 가족 처리가 끝난 뒤 다음 페이지로 진행 (진행 위치 기록)
+     * 대화가 적은 가족은 분석 주기가 아닌 날에는 긴급 상황 감지만 수행
+     * 한 가족의 실패는 다른 가족의 처리에 영향을 주지 않음
+     *
+     * @param days 분석할 최근 일수
+     */
+    public AnalysisRunSummary analyzeAllFamilies(int days) {
+        Semaphore permits = new Semaphore(analysisProperties.getScheduler().getConcurrency());
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        List<Long> failedFamilyIds = Collections.synchronizedList(new ArrayList<>());
+        long startedAt = System.nanoTime();
 
-        for (Family family : families) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            shardedFamilyRunner.run(DAILY_ANALYSIS_TASK, todayRunKey(), (familyIds, leaseHeld) -> {
+                List<FamilyRisk> risks = familyRiskService.assess(familyIds);
+                CountDownLatch pageDone = new CountDownLatch(risks.size());
+                for (FamilyRisk risk : risks) {
+                    if (!leaseHeld.getAsBoolean()) {
+                        // 샤드를 가져간 노드가 처리하므로 남은 가족은 건너뜀
+                        pageDone.countDown();
+                        continue;
+                    }
+                    Long familyId = risk.familyId();
+                    boolean analyze = familyRiskService.isDueToday(risk);
+                    // 동시 실행 수가 가득 차면 자리가 날 때까지 다음 가족 제출을 멈춤
+                    permits.acquireUninterruptibly();
+                    executor.submit(() -> {
+                        try {
+                            long familyStartedAt = System.nanoTime();
+                            if (!analyzeFamily(familyId, days, analyze)) {
+                                failedFamilyIds.add(familyId);
+                            }
+                            latencies.add(elapsedMillis(familyStartedAt));
+                        } finally {
+                            permits.release();
+                            pageDone.countDown();
+                        }
+                    });
+                }
+                awaitUninterruptibly(pageDone);
+            });
+        }
+
+        return AnalysisRunSummary.of(latencies, failedFamilyIds, elapsedMillis(startedAt));
+    }
+
+    /**
+     * 고위험 가족 추가 분석 (하루 중 여러 번 + 매일 분석 시작 시)
+     * 작업 큐에 위험 점수를 우선순위로 등록하여 다른 작업보다 먼저 실행되도록 함
+     * 디바운스로 미뤄져 대기 중인 작업이 있으면 우선순위를 올리고 바로 실행되도록 앞당김
+     * 모든 노드에서 실행되지만 같은 가족의 활성 작업은 하나만 등록됨
+     */
+    @Scheduled(cron = "${analysis.priority.high-risk-cron:0 0 6,12,18 * * *}")
+    public void enqueueHighRiskFamilies() {
+        if (!analysisProperties.getPriority().isEnabled()) {
+            return;
+        }
+
+        List<FamilyRisk> highRiskFamilies = familyRiskService.findHighRiskFamilies();
+        for (FamilyRisk risk : highRiskFamilies) {
             try {
-                // 최근 7일 대화 분석
-                analysisService.analyzeFamily(family.getId(), 7);
-                log.info("Analysis completed for family. familyId: {}", family.getId());
+                jobService.enqueue(JobType.FAMILY_ANALYSIS, risk.familyId(), null, risk.score());
+            } catch (Exception e) {
+                log.error("Failed to enqueue high-risk family analysis. familyId: {}", risk.familyId(), e);
+            }
+        }
+        log.info("High-risk family analysis enqueued. families: {}", highRiskFamilies.size());
+    }
 
-                // 긴급 상황 감지
-                emergencyAlertService.detectEmergencies(family.getId());
-                log.info("Emergency detection completed for family. familyId: {}", family.getId());
+    /**
+     * 한 가족의 분석 + 긴급 상황 감지
+     *
+     * @param analyze false면 긴급 상황 감지만 수행
+     * @return 모두 성공했으면 true
+     */
+    private boolean analyzeFamily(Long familyId, int days, boolean analyze) {
+        boolean succeeded = true;
 
+        if (analyze) {
+            try {
+                // 최근 N일 중 지난 분석 이후 새 메시지만 분석 (새 메시지가 없으면 건너뜀)
+                analysisService.analyzeNewMessages(familyId, days);
+                log.info("Analysis completed for family. familyId: {}", familyId);
             } catch (Exception e) {
-                log.error("Failed to analyze family. familyId: {}", family.getId(), e);
+                log.error("Failed to analyze family. familyId: {}", familyId, e);
                 // 한 가족 분석 실패해도 다른 가족 분석은 계속 진행
+                succeeded = false;
             }
+        } else {
+            log.info("Skipped analysis for low-activity family. familyId: {}", familyId);
+        }
+
+        try {
+            // 긴급 상황 감지 (분석 실패와 무관하게 실행)
+            emergencyAlertService.detectEmergencies(familyId);
+            log.info("Emergency detection completed for family. familyId: {}", familyId);
+        } catch (Exception e) {
+            log.error("Failed to detect emergencies. familyId: {}", familyId, e);
+            succeeded = false;
         }
 
-        log.info("Daily analysis scheduler completed");
+        return succeeded;
+    }
+
+    private String todayRunKey() {
+        return LocalDate.now().toString();
+    }
+
+    private void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long elapsedMillis(long startedAtNanos) {
+        return (System.nanoTime() - startedAtNanos) / 1_000_000;
     }
 
     /**
@@ -1,6 +1,14 @@
 package com.example.spring.analysis.service;
 
 import com.example.spring.ai.gemini.service.GeminiClient;
+import com.example.spring.ai.gemini.support.TokenEstimator;
+import com.example.spring.analysis.config.AnalysisProperties;
+import com.example.spring.analysis.domain.AnalysisWatermark;
+import com.example.spring.analysis.repository.AnalysisWatermarkRepository;
+import com.example.spring.analysis.repository.InsightFingerprintRepository;
+import com.example.spring.analysis.support.TranscriptBuilder;
+import com.example.spring.analysis.support.TranscriptBuilder.Transcript;
+import com.example.spring.common.support.SingleFlight;
 import com.example.spring.conversation.dto.MessageResponse;
 import com.example.spring.conversation.service.ConversationService;
 import com.example.spring.family.domain.Family;
@@ -17,11 +25,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple3;
+import reactor.util.function.Tuples;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 /**
  * AI 분석 서비스
@@ -32,6 +45,55 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AnalysisService {
 
+    /**
+     * 통합 분석 응답 스키마 (Gemini Schema 형식)
+     * 각 필드는 HealthInsight / EmotionInsight / NeedsInsight 에 대응
+     */
+    private static final String COMBINED_RESPONSE_SCHEMA = """
+            {
+              "type": "OBJECT",
+              "properties": {
+                "health": {
+                  "type": "OBJECT",
+                  "properties": {
+                    "keywords": {"type": "ARRAY", "items": {"type": "STRING"}},
+                    "severity": {"type": "INTEGER", "minimum": 1, "maximum": 10},
+                    "summary": {"type": "STRING"},
+                    "recommendation": {"type": "STRING"}
+                  },
+                  "required": ["keywords", "severity", "summary", "recommendation"]
+                },
+                "emotion": {
+                  "type": "OBJECT",
+                  "properties": {
+                    "emotionType": {"type": "STRING"},
+                    "emotionScore": {"type": "INTEGER", "minimum": -10, "maximum": 10},
+                    "description": {"type": "STRING"},
+                    "conversationTips": {"type": "ARRAY", "items": {"type": "STRING"}}
+                  },
+                  "required": ["emotionType", "emotionScore", "description", "conversationTips"]
+                },
+                "needs": {
+                  "type": "OBJECT",
+                  "properties": {
+                    "category": {"type": "STRING", "enum": ["건강/의료", "생활용품", "식품", "여가", "기타"]},
+                    "items": {"type": "ARRAY", "items": {"type": "STRING"}},
+                    "priority": {"type": "INTEGER", "minimum": 1, "maximum": 10},
+                    "context": {"type": "STRING"},
+                    "recommendations": {"type": "ARRAY", "items": {"type": "STRING"}}
+                  },
+                  "required": ["category", "items", "priority", "context", "recommendations"]
+                }
+              },
+              "required": ["health", "emotion", "needs"]
+            }
+            """;
+
+    /**
+     * 대화 요약(map-reduce) 최대 반복 횟수
+     */
+    private static final int MAX_CONDENSE_ROUNDS = 2;
+
     private final GeminiClient geminiClient;
     private final ConversationService conversationService;
     private final FamilyRepository familyRepository;
@@ -39,146 +101,377 @@ public class AnalysisService {
     private final EmotionInsightRepository emotionInsightRepository;
     private final NeedsInsightRepository needsInsightRepository;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final AnalysisProperties analysisProperties;
+    private final AnalysisWatermarkRepository watermarkRepository;
+    private final InsightFingerprintRepository insightFingerprintRepository;
+
+    /**
+     * 같은 가족에 대해 동시에 들어온 같은 분석 요청(기간 + 증분 여부)을 하나로 병합
+     * 요청이 다르면 진행 중인 분석이 끝난 뒤 따로 실행하여 한 가족의 인사이트를 동시에 저장하지 않음
+     */
+    private final SingleFlight<Long, Boolean> familyAnalysisFlight = new SingleFlight<>();
 
     /**
      * 특정 가족의 최근 N일 대화를 전체 분석 (3가지 분석 수행)
+     * 같은 기간의 전체 분석이 이미 진행 중이면 새로 실행하지 않고 그 결과를 기다림
      */
-    @Transactional
     public void analyzeFamily(Long familyId, int days) {
-        log.info("Starting comprehensive analysis for family. familyId: {}, days: {}", familyId, days);
+        familyAnalysisFlight.execute(familyId, new AnalysisRequest(days, false),
+                () -> doAnalyzeFamily(familyId, days, false));
+    }
+
+    /**
+     * 특정 가족의 새 메시지만 증분 분석
+     * 워터마크 이후 새 메시지가 없으면 건너뛰고, 있으면 이전 인사이트 요약 + 새 메시지로 분석
+     * 워터마크나 이전 인사이트가 없으면 최근 N일 전체 분석
+     */
+    public void analyzeNewMessages(Long familyId, int days) {
+        familyAnalysisFlight.execute(familyId, new AnalysisRequest(days, true),
+                () -> doAnalyzeFamily(familyId, days, true));
+    }
+
+    /**
+     * 병합 기준이 되는 분석 요청 내용
+     */
+    private record AnalysisRequest(int days, boolean incremental) {
+    }
+
+    /**
+     * 분석 실행
+     * Gemini 호출 동안 DB 커넥션을 점유하지 않도록 조회 → AI 분석 → 저장 단계로 분리
+     *
+     * @param incremental 워터마크 이후 새 메시지만 분석할지 여부
+     * @return 인사이트 저장 여부
+     */
+    private boolean doAnalyzeFamily(Long familyId, int days, boolean incremental) {
+        log.info("Starting comprehensive analysis for family. familyId: {}, days: {}, incremental: {}",
+                familyId, days, incremental);
+
+        // 1. 조회 단계 (각 조회는 짧은 읽기 트랜잭션에서 수행)
+        LocalDateTime readStartedAt = LocalDateTime.now();
 
         Family family = familyRepository.findById(familyId)
                 .orElseThrow(() -> new IllegalArgumentException("가족 그룹을 찾을 수 없습니다. familyId: " + familyId));
 
-        // 최근 N일 메시지 조회
-        List<MessageResponse> messages = conversationService.getRecentMessagesByFamily(familyId, days);
+        // 분석 구간 지문이 지난 분석과 같으면 Gemini 호출 없이 종료 (재시도/중복 실행 대비)
+        String fingerprint = days + "d:" + conversationService.summarizeRecentMessagesByFamily(familyId, days).fingerprint();
+        if (insightFingerprintRepository.isLatestAnalyzedWith(familyId, fingerprint)) {
+            log.info("Conversation window unchanged since last analysis. Skipping. familyId: {}, fingerprint: {}",
+                    familyId, fingerprint);
+            return false;
+        }
+
+        Optional<AnalysisWatermark> watermark = incremental
+                ? watermarkRepository.findByFamilyId(familyId)
+                : Optional.empty();
+
+        String previousSummary = null;
+        List<MessageResponse> messages;
+        if (watermark.isPresent()) {
+            Long lastMessageId = watermark.get().getLastMessageId();
+            if (!conversationService.hasNewMessagesByFamily(familyId, lastMessageId, days)) {
+                log.info("No new messages since last analysis. Skipping. familyId: {}, lastMessageId: {}",
+                        familyId, lastMessageId);
+                return false;
+            }
+
+            previousSummary = buildPreviousSummary(familyId);
+            messages = previousSummary != null
+                    ? conversationService.getNewMessagesByFamily(familyId, lastMessageId, days)
+                    : conversationService.getRecentMessagesByFamily(familyId, days);
+        } else {
+            // 최근 N일 메시지 조회
+            messages = conversationService.getRecentMessagesByFamily(familyId, days);
+        }
 
         if (messages.isEmpty()) {
             log.warn("No messages found for analysis. familyId: {}", familyId);
-            return;
+            return false;
+        }
+
+        // 대화 내용을 토큰 예산 단위 조각으로 변환
+        Transcript transcript = TranscriptBuilder.of(messages, analysisProperties.getChunkTokenBudget());
+        MessageResponse lastMessage = messages.stream()
+                .max(Comparator.comparing(MessageResponse::id))
+                .orElseThrow();
+
+        // 2. AI 분석 단계 (트랜잭션 없음)
+        // 대화가 예산을 넘으면 조각별 요약으로 압축한 뒤 분석
+        String newConversationText = condenseTranscript(familyId, transcript, 1).block();
+        String conversationText = previousSummary != null
+                ? previousSummary + "\n\n[새 대화]\n" + newConversationText
+                : newConversationText;
+
+        Tuple3<HealthInsight, EmotionInsight, NeedsInsight> insights = switch (analysisProperties.getMode()) {
+            // 한 번의 호출로 세 분석을 함께 수행 (대화 내용을 한 번만 전송)
+            case COMBINED -> timed("combined", familyId, analyzeCombined(family, conversationText)).block();
+            // 세 호출을 동시에 구독하고, 하나라도 실패하면 나머지 진행 중인 호출은 취소됨
+            case SEPARATE -> Mono.zip(
+                    timed("health", familyId, analyzeHealth(family, conversationText)),
+                    timed("emotion", familyId, analyzeEmotion(family, conversationText)),
+                    timed("needs", familyId, analyzeNeeds(family, conversationText))
+            ).block();
+        };
+
+        // 3. 저장 단계 (짧은 쓰기 트랜잭션에서 세 인사이트를 함께 저장)
+        boolean saved = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (!familyRepository.existsById(familyId)) {
+                log.warn("Family was deleted during analysis. Discarding results. familyId: {}", familyId);
+                return false;
+            }
+
+            // 분석 도중 다른 실행이 먼저 결과를 저장했다면 중복 저장하지 않음
+            if (healthInsightRepository.existsByFamilyIdAndCreatedAtAfter(familyId, readStartedAt)) {
+                log.warn("Concurrent analysis already saved newer insights. Discarding results. familyId: {}", familyId);
+                return false;
+            }
+
+            insights.getT1().recordSourceFingerprint(fingerprint);
+            insights.getT2().recordSourceFingerprint(fingerprint);
+            insights.getT3().recordSourceFingerprint(fingerprint);
+
+            healthInsightRepository.save(insights.getT1());
+            emotionInsightRepository.save(insights.getT2());
+            needsInsightRepository.save(insights.getT3());
+            advanceWatermark(familyId, lastMessage);
+            return true;
+        }));
+
+        if (saved) {
+            log.info("Comprehensive analysis completed. familyId: {}, healthSeverity: {}, emotionScore: {}, needsPriority: {}",
+                    familyId, insights.getT1().getSeverity(), insights.getT2().getEmotionScore(),
+                    insights.getT3().getPriority());
         }
+        return saved;
+    }
+
+    /**
+     * 분석에 반영한 마지막 메시지로 워터마크 갱신 (없으면 생성)
+     * 조회 후 저장하면 같은 가족의 첫 분석이 동시에 끝날 때 유니크 제약 위반으로 인사이트 저장까지 롤백되므로 upsert 사용
+     */
+    private void advanceWatermark(Long familyId, MessageResponse lastMessage) {
+        watermarkRepository.upsertAdvance(familyId, lastMessage.id(), lastMessage.sentAt(), LocalDateTime.now());
+    }
+
+    /**
+     * 이전 분석 결과 요약 (증분 분석 시 이전 대화 대신 사용)
+     * 세 인사이트 중 하나라도 없으면 null
+     */
+    private String buildPreviousSummary(Long familyId) {
+        Optional<HealthInsight> health = healthInsightRepository.findFirstByFamilyIdOrderByAnalyzedAtDesc(familyId);
+        Optional<EmotionInsight> emotion = emotionInsightRepository.findFirstByFamilyIdOrderByAnalyzedAtDesc(familyId);
+        Optional<NeedsInsight> needs = needsInsightRepository.findFirstByFamilyIdOrderByAnalyzedAtDesc(familyId);
 
-        // 대화 내용 텍스트로 변환
-        String conversationText = buildConversationText(messages);
+        if (health.isEmpty() || emotion.isEmpty() || needs.isEmpty()) {
+            return null;
+        }
 
-        // 3가지 분석 병렬 수행
-        analyzeHealth(family, conversationText);
-        analyzeEmotion(family, conversationText);
-        analyzeNeeds(family, conversationText);
+        return String.format("""
+                [이전 분석 요약 (%s 기준)]
+                - 건강: %s (심각도: %d/10, 키워드: %s)
+                - 감정: %s (감정: %s, 점수: %d)
+                - 니즈: [%s] %s (우선순위: %d/10, 항목: %s)""",
+                health.get().getAnalyzedAt().toLocalDate(),
+                health.get().getSummary(), health.get().getSeverity(), health.get().getKeywords(),
+                emotion.get().getDescription(), emotion.get().getEmotionType(), emotion.get().getEmotionScore(),
+                needs.get().getCategory(), needs.get().getContext(), needs.get().getPriority(), needs.get().getItems());
+    }
+
+    /**
+     * 개별 분석의 소요 시간 기록
+     * 다른 분석의 실패로 취소된 경우도 함께 기록
+     */
+    private <T> Mono<T> timed(String analysisName, Long familyId, Mono<T> analysis) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return analysis
+                    .doOnSuccess(result -> log.info("Analysis finished. familyId: {}, analysis: {}, latencyMs: {}",
+                            familyId, analysisName, elapsedMillis(startedAt)))
+                    .doOnError(e -> log.warn("Analysis failed. familyId: {}, analysis: {}, latencyMs: {}",
+                            familyId, analysisName, elapsedMillis(startedAt)))
+                    .doOnCancel(() -> log.warn("Analysis cancelled because a sibling analysis failed. familyId: {}, analysis: {}, latencyMs: {}",
+                            familyId, analysisName, elapsedMillis(startedAt)));
+        });
+    }
 
-        log.info("Comprehensive analysis completed. familyId: {}", familyId);
+    private long elapsedMillis(long startedAtNanos) {
+        return (System.nanoTime() - startedAtNanos) / 1_000_000;
     }
 
     /**
      * 건강 스캐너 분석
+     * 저장은 호출 측에서 수행
      */
-    @Transactional
-    public void analyzeHealth(Family family, String conversationText) {
+    public Mono<HealthInsight> analyzeHealth(Family family, String conversationText) {
         log.info("Analyzing health for family. familyId: {}", family.getId());
 
         String prompt = buildHealthAnalysisPrompt(conversationText);
 
-        try {
-            String aiResponse = geminiClient.generate(prompt);
-            JsonNode jsonResponse = objectMapper.readTree(aiResponse);
+        return geminiClient.generateAsync(prompt)
+                .map(aiResponse -> toHealthInsight(family, readJson(aiResponse, "건강 분석")));
+    }
 
-            HealthInsight insight = HealthInsight.builder()
-                    .family(family)
-                    .keywords(jsonResponse.get("keywords").toString())
-                    .severity(jsonResponse.get("severity").asInt())
-                    .summary(jsonResponse.get("summary").asText())
-                    .recommendation(jsonResponse.get("recommendation").asText())
-                    .analyzedAt(LocalDateTime.now())
-                    .build();
+    /**
+     * 감정 분석
+     * 저장은 호출 측에서 수행
+     */
+    public Mono<EmotionInsight> analyzeEmotion(Family family, String conversationText) {
+        log.info("Analyzing emotion for family. familyId: {}", family.getId());
 
-            healthInsightRepository.save(insight);
+        String prompt = buildEmotionAnalysisPrompt(conversationText);
 
-            log.info("Health analysis saved. familyId: {}, severity: {}", family.getId(), insight.getSeverity());
+        return geminiClient.generateAsync(prompt)
+                .map(aiResponse -> toEmotionInsight(family, readJson(aiResponse, "감정 분석")));
+    }
 
-        } catch (JsonProcessingException e) {
-            log.error("Failed to parse health analysis JSON response", e);
-            throw new RuntimeException("건강 분석 JSON 파싱 실패", e);
-        }
+    /**
+     * 니즈 발굴 분석
+     * 저장은 호출 측에서 수행
+     */
+    public Mono<NeedsInsight> analyzeNeeds(Family family, String conversationText) {
+        log.info("Analyzing needs for family. familyId: {}", family.getId());
+
+        String prompt = buildNeedsAnalysisPrompt(conversationText);
+
+        return geminiClient.generateAsync(prompt)
+                .map(aiResponse -> toNeedsInsight(family, readJson(aiResponse, "니즈 분석")));
     }
 
     /**
-     * 감정 분석
+     * 건강/감정/니즈 통합 분석 (호출 1회)
+     * 응답 스키마로 세 분석 결과를 하나의 JSON으로 받아 각각의 인사이트로 변환
+     * 저장은 호출 측에서 수행
      */
-    @Transactional
-    public void analyzeEmotion(Family family, String conversationText) {
-        log.info("Analyzing emotion for family. familyId: {}", family.getId());
+    public Mono<Tuple3<HealthInsight, EmotionInsight, NeedsInsight>> analyzeCombined(Family family, String conversationText) {
+        log.info("Analyzing health, emotion and needs in one call for family. familyId: {}", family.getId());
 
-        String prompt = buildEmotionAnalysisPrompt(conversationText);
+        String prompt = buildCombinedAnalysisPrompt(conversationText);
 
-        try {
-            String aiResponse = geminiClient.generate(prompt);
-            JsonNode jsonResponse = objectMapper.readTree(aiResponse);
+        return geminiClient.generateJsonAsync(prompt, COMBINED_RESPONSE_SCHEMA)
+                .map(aiResponse -> {
+                    JsonNode jsonResponse = readJson(aiResponse, "통합 분석");
 
-            EmotionInsight insight = EmotionInsight.builder()
-                    .family(family)
-                    .emotionType(jsonResponse.get("emotionType").asText())
-                    .emotionScore(jsonResponse.get("emotionScore").asInt())
-                    .description(jsonResponse.get("description").asText())
-                    .conversationTips(jsonResponse.get("conversationTips").toString())
-                    .analyzedAt(LocalDateTime.now())
-                    .build();
+                    return Tuples.of(
+                            toHealthInsight(family, jsonResponse.get("health")),
+                            toEmotionInsight(family, jsonResponse.get("emotion")),
+                            toNeedsInsight(family, jsonResponse.get("needs"))
+                    );
+                });
+    }
 
-            emotionInsightRepository.save(insight);
+    private HealthInsight toHealthInsight(Family family, JsonNode json) {
+        return HealthInsight.builder()
+                .family(family)
+                .keywords(json.get("keywords").toString())
+                .severity(json.get("severity").asInt())
+                .summary(json.get("summary").asText())
+                .recommendation(json.get("recommendation").asText())
+                .analyzedAt(LocalDateTime.now())
+                .build();
+    }
 
-            log.info("Emotion analysis saved. familyId: {}, emotionType: {}, score: {}",
-                    family.getId(), insight.getEmotionType(), insight.getEmotionScore());
+    private EmotionInsight toEmotionInsight(Family family, JsonNode json) {
+        return EmotionInsight.builder()
+                .family(family)
+                .emotionType(json.get("emotionType").asText())
+                .emotionScore(json.get("emotionScore").asInt())
+                .description(json.get("description").asText())
+                .conversationTips(json.get("conversationTips").toString())
+                .analyzedAt(LocalDateTime.now())
+                .build();
+    }
 
+    private NeedsInsight toNeedsInsight(Family family, JsonNode json) {
+        return NeedsInsight.builder()
+                .family(family)
+                .category(json.get("category").asText())
+                .items(json.get("items").toString())
+                .priority(json.get("priority").asInt())
+                .context(json.get("context").asText())
+                .recommendations(json.get("recommendations").toString())
+                .analyzedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * AI 응답 JSON 파싱
+     */
+    private JsonNode readJson(String aiResponse, String analysisName) {
+        try {
+            return objectMapper.readTree(aiResponse);
         } catch (JsonProcessingException e) {
-            log.error("Failed to parse emotion analysis JSON response", e);
-            throw new RuntimeException("감정 분석 JSON 파싱 실패", e);
+            log.error("Failed to parse {} JSON response", analysisName, e);
+            throw new RuntimeException(analysisName + " JSON 파싱 실패", e);
         }
     }
 
     /**
-     * 니즈 발굴 분석
+     * 대화 텍스트를 분석 호출 1회의 토큰 예산 안으로 압축
+     * 예산 안이면 그대로 사용하고, 넘으면 조각을 병렬로 요약(map)한 뒤 요약본을 이어 붙임(reduce)
+     * 요약본도 예산을 넘으면 같은 방식으로 한 번 더 압축
      */
-    @Transactional
-    public void analyzeNeeds(Family family, String conversationText) {
-        log.info("Analyzing needs for family. familyId: {}", family.getId());
-
-        String prompt = buildNeedsAnalysisPrompt(conversationText);
-
-        try {
-            String aiResponse = geminiClient.generate(prompt);
-            JsonNode jsonResponse = objectMapper.readTree(aiResponse);
+    private Mono<String> condenseTranscript(Long familyId, Transcript transcript, int round) {
+        if (transcript.totalTokens() <= analysisProperties.getTranscriptTokenBudget()) {
+            return Mono.just(transcript.fullText());
+        }
 
-            NeedsInsight insight = NeedsInsight.builder()
-                    .family(family)
-                    .category(jsonResponse.get("category").asText())
-                    .items(jsonResponse.get("items").toString())
-                    .priority(jsonResponse.get("priority").asInt())
-                    .context(jsonResponse.get("context").asText())
-                    .recommendations(jsonResponse.get("recommendations").toString())
-                    .analyzedAt(LocalDateTime.now())
-                    .build();
+        if (round > MAX_CONDENSE_ROUNDS) {
+            // 더 줄어들지 않는 경우 최근 대화가 남도록 앞쪽 조각을 버림
+            log.warn("Transcript still over budget after {} rounds. Keeping latest chunks. familyId: {}, tokens: {}",
+                    MAX_CONDENSE_ROUNDS, familyId, transcript.totalTokens());
+            return Mono.just(latestWithinBudget(transcript));
+        }
 
-            needsInsightRepository.save(insight);
+        log.info("Transcript over budget. Summarizing chunks. familyId: {}, round: {}, tokens: {}, chunks: {}",
+                familyId, round, transcript.totalTokens(), transcript.chunks().size());
 
-            log.info("Needs analysis saved. familyId: {}, category: {}, priority: {}",
-                    family.getId(), insight.getCategory(), insight.getPriority());
+        return Flux.fromIterable(transcript.chunks())
+                .flatMapSequential(chunk -> geminiClient.generateAsync(buildChunkSummaryPrompt(chunk)),
+                        analysisProperties.getChunkConcurrency())
+                .collectList()
+                .flatMap(summaries -> condenseTranscript(familyId,
+                        TranscriptBuilder.ofLines(summaries, analysisProperties.getChunkTokenBudget()), round + 1));
+    }
 
-        } catch (JsonProcessingException e) {
-            log.error("Failed to parse needs analysis JSON response", e);
-            throw new RuntimeException("니즈 분석 JSON 파싱 실패", e);
+    /**
+     * 예산 안에 들어오는 최근 조각만 이어 붙임
+     */
+    private String latestWithinBudget(Transcript transcript) {
+        int budget = analysisProperties.getTranscriptTokenBudget();
+        List<String> chunks = transcript.chunks();
+        int from = chunks.size();
+        int tokens = 0;
+        while (from > 0) {
+            int chunkTokens = TokenEstimator.estimate(chunks.get(from - 1));
+            if (tokens + chunkTokens > budget && from < chunks.size()) {
+                break;
+            }
+            tokens += chunkTokens;
+            from--;
         }
+        return String.join("\n", chunks.subList(from, chunks.size()));
     }
 
     /**
-     * 메시지 목록을 텍스트로 변환
+     * 대화 조각 요약 프롬프트 생성
      */
-    private String buildConversationText(List<MessageResponse> messages) {
-        return messages.stream()
-                .filter(msg -> msg.type().name().equals("TEXT"))
-                .map(msg -> String.format("[%s] %s: %s",
-                        msg.sentAt().toLocalDate(),
-                        msg.senderNickname(),
-                        msg.content()))
-                .collect(Collectors.joining("\n"));
+    private String buildChunkSummaryPrompt(String chunk) {
+        return String.format("""
+                다음은 부모님과 자녀 간의 대화 일부입니다.
+                이후 건강, 감정, 니즈(필요 물품, 서비스) 분석에 사용할 수 있도록 대화를 요약해주세요.
+
+                대화 내용:
+                %s
+
+                요약 기준:
+                - 건강 이상, 통증, 질병 언급은 빠짐없이 포함
+                - 감정 표현("외롭다", "좋아" 등)과 구매 의도("필요해", "사고 싶어" 등)는 원문 표현 유지
+                - 각 줄은 "[날짜] 닉네임: 내용" 형식 유지
+                - 분석과 무관한 일상 대화는 생략
+
+                요약만 작성해주세요 (다른 설명 없이):
+                """, chunk);
     }
 
     /**
@@ -260,4 +553,40 @@ public class AnalysisService {
                 - priority: 건강 관련(8-10), 생활 불편(5-7), 선호(1-4)
                 """, conversationText);
     }
+
+    /**
+     * 통합 분석 프롬프트 생성
+     * 출력 형식은 응답 스키마로 강제되므로 분석 기준만 전달
+     */
+    private String buildCombinedAnalysisPrompt(String conversationText) {
+        return String.format("""
+                다음은 부모님과 자녀 간의 대화 내용입니다.
+                부모님의 건강 상태, 감정 상태, 숨은 니즈(필요 물품, 서비스)를 함께 분석해주세요.
+
+                대화 내용:
+                %s
+
+                [health] 건강 분석 기준:
+                - 통증, 질병, 불편함 언급 파악
+                - "무릎 아파", "당뇨", "혈압" 등 건강 키워드 추출 (keywords)
+                - severity: 응급실/입원(9-10), 심각한 통증(7-8), 중간 통증(4-6), 경미(1-3)
+                - summary: 건강 상태 요약 (2-3문장), recommendation: 권장 조치사항 (2-3문장)
+
+                [emotion] 감정 분석 기준:
+                - emotionType: 주요 감정 (예: 긍정, 우울, 외로움, 불안, 평온)
+                - emotionScore: -10 ~ +10 (음수는 부정, 양수는 긍정)
+                - "외롭다", "죽고싶어", "포기" 등 부정 키워드 → 낮은 점수
+                - "좋아", "행복해", "즐거워" 등 긍정 키워드 → 높은 점수
+                - description: 감정 상태 설명 (2-3문장)
+                - conversationTips: 부모님과 대화할 수 있는 소재 3가지 제안
+
+                [needs] 니즈 분석 기준:
+                - category: 건강/의료, 생활용품, 식품, 여가, 기타 중 하나
+                - "필요해", "사고 싶어", "있으면 좋겠어" 등 구매 의도 파악 (items)
+                - "무릎 아파" → 온열 찜질기, 파스 추천
+                - "입맛 없어" → 영양제, 소화제, 맛있는 음식 추천
+                - priority: 건강 관련(8-10), 생활 불편(5-7), 선호(1-4)
+                - context: 니즈 발생 맥락 (2-3문장), recommendations: 추천 상품/서비스 3가지
+                """, conversationText);
+    }
 }
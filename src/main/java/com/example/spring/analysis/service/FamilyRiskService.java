@@ -0,0 +1,110 @@
+package com.example.spring.analysis.service;
+
+import com.example.spring.analysis.config.AnalysisProperties;
+import com.example.spring.analysis.dto.FamilyRisk;
+import com.example.spring.analysis.dto.FamilyRiskSignal;
+import com.example.spring.analysis.repository.FamilyRiskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 가족 위험도 서비스
+ * 최근 인사이트와 미확인 알림으로 위험 점수를 매겨 분석 순서와 주기를 정함
+ * - 점수 = 건강 최고 심각도(0~10) + 부정 감정 강도(0~10) + 미확인 알림 최고 심각도(0~10) + 미확인 알림 수(최대 5)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FamilyRiskService {
+
+    private static final int MAX_ALERT_COUNT_SCORE = 5;
+
+    private final FamilyRiskRepository familyRiskRepository;
+    private final AnalysisProperties analysisProperties;
+
+    /**
+     * 여러 가족의 위험도 산정 (점수 높은 순)
+     * 전달된 가족 사이에서만 정렬하므로 페이지 단위로 호출하면 페이지 안에서의 순서만 보장
+     * 위험도 기반 설정이 꺼져 있으면 모두 보통 등급(점수 0)으로 ID 순 반환
+     */
+    public List<FamilyRisk> assess(Collection<Long> familyIds) {
+        if (familyIds.isEmpty()) {
+            return List.of();
+        }
+        if (!analysisProperties.getPriority().isEnabled()) {
+            return familyIds.stream()
+                    .sorted()
+                    .map(familyId -> new FamilyRisk(familyId, 0, FamilyRisk.Tier.NORMAL))
+                    .toList();
+        }
+
+        return familyRiskRepository.findSignals(familyIds, since()).stream()
+                .map(this::toRisk)
+                .sorted(Comparator.comparingInt(FamilyRisk::score).reversed()
+                        .thenComparing(FamilyRisk::familyId))
+                .toList();
+    }
+
+    /**
+     * 고위험 가족 조회 (점수 높은 순)
+     */
+    public List<FamilyRisk> findHighRiskFamilies() {
+        AnalysisProperties.Priority priority = analysisProperties.getPriority();
+        List<Long> candidateIds = familyRiskRepository.findHighRiskCandidateIds(
+                since(), priority.getHealthSeverityThreshold(), priority.getEmotionScoreThreshold());
+
+        return assess(candidateIds).stream()
+                .filter(risk -> risk.tier() == FamilyRisk.Tier.HIGH)
+                .toList();
+    }
+
+    /**
+     * 오늘 야간 분석 대상인지 확인
+     * 대화가 적은 가족은 주기 일수마다 한 번만 분석 (가족마다 요일이 고르게 나뉘도록 ID로 분산)
+     */
+    public boolean isDueToday(FamilyRisk risk) {
+        if (risk.tier() != FamilyRisk.Tier.LOW) {
+            return true;
+        }
+        int interval = Math.max(analysisProperties.getPriority().getLowActivityIntervalDays(), 1);
+        return (LocalDate.now().toEpochDay() + risk.familyId()) % interval == 0;
+    }
+
+    private FamilyRisk toRisk(FamilyRiskSignal signal) {
+        AnalysisProperties.Priority priority = analysisProperties.getPriority();
+
+        int health = valueOrZero(signal.maxHealthSeverity());
+        int emotion = Math.max(0, -valueOrZero(signal.minEmotionScore()));
+        int alerts = valueOrZero(signal.maxOpenAlertSeverity())
+                + (int) Math.min(signal.openAlertCount(), MAX_ALERT_COUNT_SCORE);
+        int score = health + emotion + alerts;
+
+        FamilyRisk.Tier tier;
+        if (score >= priority.getHighRiskScore()) {
+            tier = FamilyRisk.Tier.HIGH;
+        } else if (signal.recentMessageCount() < priority.getLowActivityMessageCount() && alerts == 0) {
+            tier = FamilyRisk.Tier.LOW;
+        } else {
+            tier = FamilyRisk.Tier.NORMAL;
+        }
+
+        return new FamilyRisk(signal.familyId(), score, tier);
+    }
+
+    private LocalDateTime since() {
+        return LocalDateTime.now().minusDays(analysisProperties.getPriority().getLookbackDays());
+    }
+
+    private static int valueOrZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
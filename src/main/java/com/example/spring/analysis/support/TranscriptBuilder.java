@@ -0,0 +1,121 @@
+package com.example.spring.analysis.support;
+
+import com.example.spring.ai.gemini.support.TokenEstimator;
+import com.example.spring.conversation.domain.MessageType;
+import com.example.spring.conversation.dto.MessageResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 분석용 대화 텍스트 생성기
+ * 메시지를 한 줄씩 추가하면서 토큰 수를 추정하고, 조각(chunk)당 토큰 예산을 넘지 않도록 나눔
+ * 메시지는 한 건씩만 필요하지만, 만들어진 조각들은 전체 대화 텍스트를 메모리에 보관함
+ */
+public final class TranscriptBuilder {
+
+    private final int chunkTokenBudget;
+    private final List<String> chunks = new ArrayList<>();
+
+    private StringBuilder current = new StringBuilder();
+    private int currentTokens;
+    private int totalTokens;
+
+    public TranscriptBuilder(int chunkTokenBudget) {
+        if (chunkTokenBudget <= 0) {
+            throw new IllegalArgumentException("chunkTokenBudget은 0보다 커야 합니다.");
+        }
+        this.chunkTokenBudget = chunkTokenBudget;
+    }
+
+    /**
+     * 메시지 목록으로 대화 텍스트 생성 (TEXT 메시지만 포함)
+     * 메시지를 순회하며 한 건씩 추가하므로 모든 메시지를 미리 목록으로 읽어둘 필요는 없음
+     */
+    public static Transcript of(Iterable<MessageResponse> messages, int chunkTokenBudget) {
+        TranscriptBuilder builder = new TranscriptBuilder(chunkTokenBudget);
+        messages.forEach(builder::append);
+        return builder.build();
+    }
+
+    /**
+     * 텍스트 줄 목록으로 대화 텍스트 생성 (조각 요약 결과를 다시 묶을 때 사용)
+     */
+    public static Transcript ofLines(List<String> lines, int chunkTokenBudget) {
+        TranscriptBuilder builder = new TranscriptBuilder(chunkTokenBudget);
+        lines.forEach(builder::appendLine);
+        return builder.build();
+    }
+
+    /**
+     * 메시지 추가 ("[날짜] 닉네임: 내용" 형식)
+     */
+    public TranscriptBuilder append(MessageResponse message) {
+        if (message.type() != MessageType.TEXT) {
+            return this;
+        }
+
+        return appendLine("[" + message.sentAt().toLocalDate() + "] "
+                + message.senderNickname() + ": " + message.content());
+    }
+
+    /**
+     * 한 줄 추가
+     * 현재 조각이 예산을 넘게 되면 새 조각을 시작하고, 한 줄이 예산보다 크면 잘라냄
+     */
+    public TranscriptBuilder appendLine(String line) {
+        int lineTokens = TokenEstimator.estimate(line) + 1;
+        if (lineTokens > chunkTokenBudget) {
+            // 토큰 추정치는 코드 포인트 수를 넘지 않으므로 예산만큼의 코드 포인트로 자르면 예산 안에 들어옴
+            // (서로게이트 쌍이 잘리지 않도록 코드 포인트 경계에서 자름)
+            int keep = Math.min(line.codePointCount(0, line.length()), Math.max(chunkTokenBudget - 2, 0));
+            line = line.substring(0, line.offsetByCodePoints(0, keep)) + "…";
+            lineTokens = TokenEstimator.estimate(line) + 1;
+        }
+
+        if (currentTokens + lineTokens > chunkTokenBudget) {
+            flush();
+        }
+
+        if (!current.isEmpty()) {
+            current.append('\n');
+        }
+        current.append(line);
+        currentTokens += lineTokens;
+        totalTokens += lineTokens;
+        return this;
+    }
+
+    public Transcript build() {
+        flush();
+        return new Transcript(List.copyOf(chunks), totalTokens);
+    }
+
+    private void flush() {
+        if (!current.isEmpty()) {
+            chunks.add(current.toString());
+            current = new StringBuilder();
+            currentTokens = 0;
+        }
+    }
+
+    /**
+     * 조각으로 나뉜 대화 텍스트
+     *
+     * @param chunks 토큰 예산 단위로 나뉜 조각 (시간 순)
+     * @param totalTokens 전체 추정 토큰 수
+     */
+    public record Transcript(List<String> chunks, int totalTokens) {
+
+        public boolean isEmpty() {
+            return chunks.isEmpty();
+        }
+
+        /**
+         * 전체 대화 텍스트
+         */
+        public String fullText() {
+            return String.join("\n", chunks);
+        }
+    }
+}
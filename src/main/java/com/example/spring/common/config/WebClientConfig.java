@@ -1,15 +1,27 @@
 package com.example.spring.common.config;
 
+import com.example.spring.ai.gemini.config.GeminiProperties;
+import io.netty.channel.ChannelOption;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
 
 @Configuration
 public class WebClientConfig {
 
     @Bean
-    public WebClient webClient() {
+    public WebClient webClient(GeminiProperties geminiProperties) {
+        GeminiProperties.Timeout timeout = geminiProperties.getTimeout();
+
+        // 연결/응답 타임아웃이 없으면 멈춘 업스트림이 커넥션을 무기한 점유함
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) timeout.getConnect().toMillis())
+                .responseTimeout(timeout.getRead());
+
         return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(2 * 1024 * 1024))
                 .build();
     }
@@ -0,0 +1,7 @@
+package com.example.spring.common.exception;
+
+public class ExportCapacityExceededException extends RuntimeException {
+    public ExportCapacityExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.spring.common.exception;
+
+public class GeminiRateLimitException extends RuntimeException {
+    public GeminiRateLimitException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.spring.common.exception;
+
+public class GeminiUnavailableException extends RuntimeException {
+    public GeminiUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -3,6 +3,7 @@ package com.example.spring.common.exception;
 import com.example.spring.common.dto.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -38,6 +39,41 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage()));
     }
 
+    /**
+     * Gemini 호출 대기열이 가득 찼거나 대기 시간을 초과한 경우
+     */
+    @ExceptionHandler(GeminiRateLimitException.class)
+    public ResponseEntity<ApiResponse<Void>> handleGeminiRateLimitException(GeminiRateLimitException ex) {
+        log.warn("GeminiRateLimitException: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    /**
+     * Gemini 장애로 서킷이 열려 호출을 차단한 경우
+     */
+    @ExceptionHandler(GeminiUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleGeminiUnavailableException(GeminiUnavailableException ex) {
+        log.warn("GeminiUnavailableException: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    /**
+     * 동시 메시지 내보내기 수가 가득 찬 경우
+     * 내보내기 엔드포인트는 NDJSON만 생성하므로 오류 응답은 JSON으로 지정
+     */
+    @ExceptionHandler(ExportCapacityExceededException.class)
+    public ResponseEntity<ApiResponse<Void>> handleExportCapacityExceededException(ExportCapacityExceededException ex) {
+        log.warn("ExportCapacityExceededException: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
     /**
      * Validation 에러 처리
      */
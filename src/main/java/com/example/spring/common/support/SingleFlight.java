@@ -0,0 +1,91 @@
+package com.example.spring.common.support;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키에 대한 동시 실행 병합
+ * 같은 키로 실행 중인 작업이 있으면 새로 실행하지 않고 진행 중인 작업의 결과를 함께 기다림
+ * 요청 내용을 함께 넘기면 내용이 같은 작업만 병합하고, 다르면 진행 중인 작업이 끝난 뒤 따로 실행 (같은 키의 작업은 겹치지 않음)
+ *
+ * @param <K> 작업 키 타입
+ * @param <V> 작업 결과 타입
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 작업 실행 (같은 키의 작업이 진행 중이면 그 결과를 공유)
+     */
+    public V execute(K key, Supplier<V> task) {
+        return execute(key, null, task);
+    }
+
+    /**
+     * 작업 실행 (같은 키 + 같은 요청의 작업이 진행 중이면 그 결과를 공유)
+     * 같은 키로 다른 요청의 작업이 진행 중이면 끝날 때까지 기다린 뒤 직접 실행
+     *
+     * @param request 병합 가능 여부를 가르는 요청 내용 (equals로 비교)
+     */
+    public V execute(K key, Object request, Supplier<V> task) {
+        Flight<V> mine = new Flight<>(request, new CompletableFuture<>());
+        Flight<V> existing;
+        while ((existing = inFlight.putIfAbsent(key, mine)) != null) {
+            if (Objects.equals(existing.request(), request)) {
+                return await(existing.future());
+            }
+            // 요청이 다르면 결과를 공유하지 않고, 진행 중인 작업이 끝나면(성공/실패 무관) 다시 시도
+            existing.future().handle((result, error) -> null).join();
+        }
+
+        try {
+            V result = task.get();
+            mine.future().complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.future().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 비동기로 진행되는 작업 등록 (같은 키의 작업이 진행 중이면 등록하지 않고 false 반환)
+     * execute로 감쌀 수 없는 작업(스트리밍 등)에 사용하며, future가 완료될 때까지 같은 키의 execute 호출은 그 결과를 기다림
+     */
+    public boolean register(K key, CompletableFuture<V> future) {
+        Flight<V> flight = new Flight<>(null, future);
+        if (inFlight.putIfAbsent(key, flight) != null) {
+            return false;
+        }
+        future.whenComplete((result, error) -> inFlight.remove(key, flight));
+        return true;
+    }
+
+    /**
+     * 해당 키의 작업이 진행 중인지 확인
+     */
+    public boolean isRunning(K key) {
+        return inFlight.containsKey(key);
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Flight<V>(Object request, CompletableFuture<V> future) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.spring.conversation.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 대화/메시지 설정 Properties
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "conversation")
+public class ConversationProperties {
+
+    /**
+     * 메시지 내보내기(NDJSON) 설정
+     */
+    private Export export = new Export();
+
+    @Getter
+    @Setter
+    public static class Export {
+
+        /**
+         * 이 인스턴스에서 동시에 진행할 최대 내보내기 수
+         * 내보내는 동안 DB 커넥션을 하나씩 잡으므로 커넥션 풀 크기보다 충분히 작게 설정
+         */
+        private int maxConcurrent = 2;
+
+        /**
+         * 내보내기 1건의 최대 시간 (넘으면 조회를 중단하고 커넥션 반환)
+         */
+        private Duration timeout = Duration.ofMinutes(2);
+    }
+}
@@ -3,18 +3,26 @@ package com.example.spring.conversation.controller;
 import com.example.spring.common.dto.ApiResponse;
 import com.example.spring.conversation.dto.ConversationResponse;
 import com.example.spring.conversation.dto.CreateConversationRequest;
+import com.example.spring.conversation.dto.MessageImportResponse;
+import com.example.spring.conversation.dto.MessagePageResponse;
 import com.example.spring.conversation.dto.MessageResponse;
+import com.example.spring.conversation.dto.MessageUploadResponse;
 import com.example.spring.conversation.dto.UploadMessagesRequest;
+import com.example.spring.conversation.service.ConversationImportService;
 import com.example.spring.conversation.service.ConversationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 대화 데이터 관리 API
@@ -26,6 +34,7 @@ import java.util.List;
 public class ConversationController {
 
     private final ConversationService conversationService;
+    private final ConversationImportService conversationImportService;
 
     /**
      * 대화방 생성
@@ -45,13 +54,31 @@ public class ConversationController {
      * POST /api/conversations/messages
      */
     @PostMapping("/messages")
-    public ResponseEntity<ApiResponse<ConversationResponse>> uploadMessages(
+    public ResponseEntity<ApiResponse<MessageUploadResponse>> uploadMessages(
             @Valid @RequestBody UploadMessagesRequest request) {
 
-        ConversationResponse response = conversationService.uploadMessages(request);
+        MessageUploadResponse response = conversationService.uploadMessages(request);
 
         return ResponseEntity.ok(ApiResponse.success(response,
-                String.format("%d개의 메시지가 업로드되었습니다.", request.messages().size())));
+                String.format("%d개의 메시지가 업로드되었습니다. (중복 %d개 제외)",
+                        response.insertedCount(), response.skippedCount())));
+    }
+
+    /**
+     * 카카오톡 대화 내보내기 파일 가져오기 (txt/csv, gzip 가능)
+     * POST /api/conversations/{conversationId}/import
+     * nicknames 파트(JSON, 선택): 대화명 → 사용자 ID
+     */
+    @PostMapping(value = "/{conversationId}/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<MessageImportResponse>> importKakaoTalk(
+            @PathVariable Long conversationId,
+            @RequestPart("file") MultipartFile file,
+            @RequestPart(value = "nicknames", required = false) Map<String, Long> nicknames) {
+
+        MessageImportResponse response = conversationImportService.importKakaoTalk(conversationId, file, nicknames);
+
+        return ResponseEntity.ok(ApiResponse.success(response,
+                String.format("%d개의 메시지를 가져왔습니다.", response.importedCount())));
     }
 
     /**
@@ -68,47 +95,68 @@ public class ConversationController {
     }
 
     /**
-     * 특정 대화방 상세 조회 (메시지 포함)
-     * GET /api/conversations/{conversationId}
+     * 특정 대화방 상세 조회 (최신 메시지 한 페이지 포함)
+     * GET /api/conversations/{conversationId}?size={size}
      */
     @GetMapping("/{conversationId}")
     public ResponseEntity<ApiResponse<ConversationResponse>> getConversation(
-            @PathVariable Long conversationId) {
+            @PathVariable Long conversationId,
+            @RequestParam(defaultValue = "50") int size) {
 
-        ConversationResponse response = conversationService.getConversation(conversationId);
+        ConversationResponse response = conversationService.getConversation(conversationId, size);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     /**
-     * 특정 대화방의 특정 기간 메시지 조회
-     * GET /api/conversations/{conversationId}/messages?start={start}&end={end}
+     * 특정 대화방의 메시지 페이지 조회 (최신순, 기간 선택)
+     * GET /api/conversations/{conversationId}/messages?start={start}&end={end}&cursor={cursor}&size={size}
      */
     @GetMapping("/{conversationId}/messages")
-    public ResponseEntity<ApiResponse<List<MessageResponse>>> getMessagesByPeriod(
+    public ResponseEntity<ApiResponse<MessagePageResponse>> getMessages(
             @PathVariable Long conversationId,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
 
-        List<MessageResponse> response = conversationService.getMessagesByPeriod(conversationId, start, end);
+        MessagePageResponse response = conversationService.getMessagePage(conversationId, start, end, cursor, size);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     /**
-     * 특정 가족의 최근 N일 메시지 조회
-     * GET /api/conversations/family/{familyId}/recent?days={days}
+     * 특정 가족의 최근 N일 메시지 페이지 조회 (최신순)
+     * GET /api/conversations/family/{familyId}/recent?days={days}&cursor={cursor}&size={size}
      */
     @GetMapping("/family/{familyId}/recent")
-    public ResponseEntity<ApiResponse<List<MessageResponse>>> getRecentMessages(
+    public ResponseEntity<ApiResponse<MessagePageResponse>> getRecentMessages(
             @PathVariable Long familyId,
-            @RequestParam(defaultValue = "7") int days) {
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
 
-        List<MessageResponse> response = conversationService.getRecentMessagesByFamily(familyId, days);
+        MessagePageResponse response = conversationService.getRecentMessagePageByFamily(familyId, days, cursor, size);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 특정 가족의 최근 N일 메시지 내보내기 (NDJSON 스트림, 시간 순)
+     * GET /api/conversations/family/{familyId}/export?days={days}
+     */
+    @GetMapping(value = "/family/{familyId}/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportRecentMessages(
+            @PathVariable Long familyId,
+            @RequestParam(defaultValue = "30") int days) {
+
+        StreamingResponseBody body = conversationService.exportRecentMessagesByFamily(familyId, days);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * 이미지 분석이 안 된 메시지 조회 (관리자용)
      * GET /api/conversations/unanalyzed-images
@@ -48,6 +48,18 @@ public class Conversation {
     @OneToMany(mappedBy = "conversation", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Message> messages = new ArrayList<>();
 
+    /**
+     * 메시지 수 (메시지 저장 시 함께 갱신, 목록 조회 시 messages를 읽지 않기 위한 값)
+     */
+    @Column(nullable = false)
+    private int messageCount;
+
+    /**
+     * 마지막 메시지 전송 시각
+     */
+    @Column
+    private LocalDateTime lastMessageAt;
+
     /**
      * 생성 시각
      */
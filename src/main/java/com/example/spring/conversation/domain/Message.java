@@ -17,7 +17,9 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "messages", indexes = {
-        @Index(name = "idx_conversation_sent_at", columnList = "conversation_id,sent_at")
+        @Index(name = "idx_conversation_sent_at", columnList = "conversation_id,sent_at"),
+        @Index(name = "idx_family_sent_at_id", columnList = "family_id,sent_at,id"),
+        @Index(name = "uk_messages_fingerprint", columnList = "fingerprint", unique = true)
 })
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -35,6 +37,12 @@ public class Message {
     @JoinColumn(name = "conversation_id", nullable = false)
     private Conversation conversation;
 
+    /**
+     * 대화방이 속한 가족 ID (가족 단위 조회 시 대화방 조인을 피하기 위해 비정규화)
+     */
+    @Column(name = "family_id", nullable = false)
+    private Long familyId;
+
     /**
      * 메시지 발신자
      */
@@ -73,6 +81,12 @@ public class Message {
     @Column(nullable = false)
     private LocalDateTime sentAt;
 
+    /**
+     * 중복 방지 지문 (대화방 + 발신자 + 타입 + 전송 시각 + 내용의 SHA-256, 일괄 업로드 시 설정)
+     */
+    @Column(length = 64)
+    private String fingerprint;
+
     /**
      * 생성 시각 (DB 저장 시각)
      */
@@ -84,6 +98,7 @@ public class Message {
     public Message(Conversation conversation, User sender, MessageType type,
                    String content, String imageUrl, LocalDateTime sentAt) {
         this.conversation = conversation;
+        this.familyId = conversation != null ? conversation.getFamily().getId() : null;
         this.sender = sender;
         this.type = type;
         this.content = content;
@@ -96,6 +111,7 @@ public class Message {
      */
     void assignConversation(Conversation conversation) {
         this.conversation = conversation;
+        this.familyId = conversation.getFamily().getId();
     }
 
     /**
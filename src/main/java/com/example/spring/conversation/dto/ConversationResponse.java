@@ -13,9 +13,11 @@ public record ConversationResponse(
         Long familyId,
         String name,
         int messageCount,
+        LocalDateTime lastMessageAt,
         LocalDateTime createdAt,
         LocalDateTime updatedAt,
-        List<MessageResponse> messages
+        List<MessageResponse> messages,
+        String nextCursor
 ) {
     public static ConversationResponse from(Conversation conversation) {
         List<MessageResponse> messageResponses = conversation.getMessages().stream()
@@ -27,24 +29,47 @@ public record ConversationResponse(
                 conversation.getFamily().getId(),
                 conversation.getName(),
                 messageResponses.size(),
+                conversation.getLastMessageAt(),
                 conversation.getCreatedAt(),
                 conversation.getUpdatedAt(),
-                messageResponses
+                messageResponses,
+                null
         );
     }
 
     /**
      * 메시지 없이 응답 생성 (목록 조회 시)
+     * 메시지 수는 대화방에 저장된 값을 사용하므로 messages 컬렉션을 읽지 않음
      */
     public static ConversationResponse fromWithoutMessages(Conversation conversation) {
         return new ConversationResponse(
                 conversation.getId(),
                 conversation.getFamily().getId(),
                 conversation.getName(),
-                conversation.getMessages().size(),
+                conversation.getMessageCount(),
+                conversation.getLastMessageAt(),
                 conversation.getCreatedAt(),
                 conversation.getUpdatedAt(),
-                List.of()
+                List.of(),
+                null
+        );
+    }
+
+    /**
+     * 최신 메시지 한 페이지만 포함하여 응답 생성 (상세 조회 시)
+     * 이전 메시지는 nextCursor로 메시지 페이지 API에서 이어서 조회
+     */
+    public static ConversationResponse of(Conversation conversation, MessagePageResponse latest) {
+        return new ConversationResponse(
+                conversation.getId(),
+                conversation.getFamily().getId(),
+                conversation.getName(),
+                conversation.getMessageCount(),
+                conversation.getLastMessageAt(),
+                conversation.getCreatedAt(),
+                conversation.getUpdatedAt(),
+                latest.messages(),
+                latest.nextCursor()
         );
     }
 }
@@ -0,0 +1,34 @@
+package com.example.spring.conversation.dto;
+
+import java.util.List;
+
+/**
+ * 카카오톡 대화 파일 가져오기 결과
+ *
+ * @param conversationId 대화방 ID
+ * @param parsedCount 파일에서 읽은 메시지 수
+ * @param importedCount 새로 저장된 메시지 수
+ * @param duplicateCount 이미 저장되어 있어 건너뛴 메시지 수
+ * @param unmappedCount 가족 구성원과 연결되지 않아 건너뛴 메시지 수
+ * @param unmappedSenders 연결되지 않은 대화명 (일부)
+ * @param elapsedMillis 가져오기에 걸린 시간
+ * @param rowsPerSecond 초당 처리 메시지 수
+ */
+public record MessageImportResponse(
+        Long conversationId,
+        long parsedCount,
+        long importedCount,
+        long duplicateCount,
+        long unmappedCount,
+        List<String> unmappedSenders,
+        long elapsedMillis,
+        double rowsPerSecond
+) {
+    public static MessageImportResponse of(Long conversationId, long parsedCount, long importedCount,
+                                           long unmappedCount, List<String> unmappedSenders, long elapsedMillis) {
+        long duplicateCount = parsedCount - unmappedCount - importedCount;
+        double rowsPerSecond = elapsedMillis > 0 ? parsedCount * 1000.0 / elapsedMillis : parsedCount;
+        return new MessageImportResponse(conversationId, parsedCount, importedCount, duplicateCount, unmappedCount,
+                unmappedSenders, elapsedMillis, rowsPerSecond);
+    }
+}
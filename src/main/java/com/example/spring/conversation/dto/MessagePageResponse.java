@@ -0,0 +1,17 @@
+package com.example.spring.conversation.dto;
+
+import java.util.List;
+
+/**
+ * 메시지 페이지 응답 (최신순)
+ *
+ * @param messages 메시지 목록
+ * @param nextCursor 다음(더 오래된) 페이지 커서 (마지막 페이지면 null)
+ * @param hasNext 다음 페이지 존재 여부
+ */
+public record MessagePageResponse(
+        List<MessageResponse> messages,
+        String nextCursor,
+        boolean hasNext
+) {
+}
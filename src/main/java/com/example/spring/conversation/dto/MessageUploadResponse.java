@@ -0,0 +1,27 @@
+package com.example.spring.conversation.dto;
+
+/**
+ * 메시지 일괄 업로드 결과
+ *
+ * @param conversationId 대화방 ID
+ * @param receivedCount 요청에 포함된 메시지 수
+ * @param insertedCount 새로 저장된 메시지 수
+ * @param skippedCount 이미 저장되어 있어 건너뛴 메시지 수
+ * @param elapsedMillis 저장에 걸린 시간
+ * @param rowsPerSecond 초당 처리 메시지 수
+ */
+public record MessageUploadResponse(
+        Long conversationId,
+        int receivedCount,
+        int insertedCount,
+        int skippedCount,
+        long elapsedMillis,
+        double rowsPerSecond
+) {
+    public static MessageUploadResponse of(Long conversationId, int receivedCount, int insertedCount,
+                                           long elapsedMillis) {
+        double rowsPerSecond = elapsedMillis > 0 ? receivedCount * 1000.0 / elapsedMillis : receivedCount;
+        return new MessageUploadResponse(conversationId, receivedCount, insertedCount,
+                receivedCount - insertedCount, elapsedMillis, rowsPerSecond);
+    }
+}
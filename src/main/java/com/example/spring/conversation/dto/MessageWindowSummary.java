@@ -0,0 +1,18 @@
+package com.example.spring.conversation.dto;
+
+/**
+ * 특정 기간 메시지 집계 (메시지 수, 최대 ID, ID 합계)
+ * 메시지 추가/삭제 여부를 내용 조회 없이 비교하는 용도
+ */
+public record MessageWindowSummary(
+        Long count,
+        Long maxId,
+        Long idSum
+) {
+    /**
+     * 구간 지문 문자열
+     */
+    public String fingerprint() {
+        return "c" + (count != null ? count : 0) + ":m" + (maxId != null ? maxId : 0) + ":s" + (idSum != null ? idSum : 0);
+    }
+}
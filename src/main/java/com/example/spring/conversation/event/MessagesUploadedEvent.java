@@ -0,0 +1,16 @@
+package com.example.spring.conversation.event;
+
+/**
+ * 메시지 업로드 이벤트
+ * 업로드 트랜잭션이 커밋된 뒤 리스너에서 처리
+ *
+ * @param familyId 가족 ID
+ * @param conversationId 대화방 ID
+ * @param messageCount 업로드된 메시지 수
+ */
+public record MessagesUploadedEvent(
+        Long familyId,
+        Long conversationId,
+        int messageCount
+) {
+}
@@ -27,6 +27,12 @@ public interface ConversationRepository extends JpaRepository<Conversation, Long
     @Query("SELECT c FROM Conversation c WHERE c.family = :family ORDER BY c.updatedAt DESC")
     List<Conversation> findByFamilyOrderByUpdatedAtDesc(@Param("family") Family family);
 
+    /**
+     * 특정 가족 ID의 대화방을 최근 메시지 순으로 조회 (가족 조회 없이 한 번의 쿼리)
+     */
+    @Query("SELECT c FROM Conversation c WHERE c.family.id = :familyId ORDER BY c.updatedAt DESC")
+    List<Conversation> findByFamilyIdOrderByUpdatedAtDesc(@Param("familyId") Long familyId);
+
     /**
      * 특정 가족의 특정 이름을 가진 대화방 조회
      */
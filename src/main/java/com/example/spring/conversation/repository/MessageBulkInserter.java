@@ -0,0 +1,128 @@
+package com.example.spring.conversation.repository;
+
+import com.example.spring.conversation.dto.MessageDto;
+import com.example.spring.conversation.support.MessageFingerprinter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 메시지 대량 저장
+ * Message는 IDENTITY 키라 Hibernate 배치 INSERT가 동작하지 않으므로 배치의 각 컬럼을 배열로 묶어 INSERT 한 문장으로 직접 저장
+ * 지문이 이미 있는 메시지는 저장하지 않음 (다시 올려도 중복되지 않음)
+ * 지문 도입 전에 저장된 메시지(지문 NULL)는 대화방 + 발신자 + 전송 시각 + 내용이 같으면 중복으로 봄
+ * 같은 문장에서 실제 저장된 행(RETURNING)만 세어 대화방의 메시지 수와 마지막 메시지 시각을 갱신
+ * (충돌로 건너뛴 행은 집계되지 않으며, 저장과 집계 사이에 다른 업로드가 끼어들 틈이 없음)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class MessageBulkInserter {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL = "WITH inserted AS (" +
+            "INSERT INTO messages " +
+            "(conversation_id, family_id, sender_id, type, content, image_url, sent_at, fingerprint, created_at) " +
+            "SELECT ?, ?, m.sender_id, m.type, m.content, m.image_url, m.sent_at, m.fingerprint, ? " +
+            "FROM unnest(?::bigint[], ?::varchar[], ?::text[], ?::varchar[], ?::timestamp[], ?::varchar[]) " +
+            "AS m(sender_id, type, content, image_url, sent_at, fingerprint) " +
+            "WHERE NOT EXISTS (SELECT 1 FROM messages legacy " +
+            "WHERE legacy.conversation_id = ? " +
+            "AND legacy.sent_at = m.sent_at " +
+            "AND legacy.fingerprint IS NULL " +
+            "AND legacy.sender_id = m.sender_id " +
+            "AND legacy.content IS NOT DISTINCT FROM m.content) " +
+            "ON CONFLICT (fingerprint) DO NOTHING " +
+            "RETURNING sent_at), " +
+            "counted AS (SELECT COUNT(*) AS inserted_count, MAX(sent_at) AS last_sent_at FROM inserted) " +
+            "UPDATE conversations c SET " +
+            "message_count = c.message_count + counted.inserted_count, " +
+            "last_message_at = GREATEST(COALESCE(c.last_message_at, counted.last_sent_at), counted.last_sent_at), " +
+            "updated_at = ? " +
+            "FROM counted " +
+            "WHERE c.id = ? AND counted.inserted_count > 0 " +
+            "RETURNING counted.inserted_count";
+
+    private static final String EXISTING_FINGERPRINTS_SQL = "SELECT fingerprint FROM messages " +
+            "WHERE fingerprint IN (:fingerprints)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 메시지 일괄 저장 (호출한 트랜잭션에 참여)
+     * 발신자 존재 여부는 호출 전에 확인해야 함
+     *
+     * @param familyId 대화방이 속한 가족 ID (메시지에 비정규화하여 저장)
+     * @param fingerprinter 업로드 단위로 하나를 만들어 모든 배치에 같이 전달
+     * @return 새로 저장된 메시지 수 (나머지는 중복으로 건너뜀)
+     */
+    public int insertAll(Long conversationId, Long familyId, List<MessageDto> messages, MessageFingerprinter fingerprinter) {
+        int inserted = 0;
+        for (int from = 0; from < messages.size(); from += BATCH_SIZE) {
+            List<MessageDto> batch = messages.subList(from, Math.min(from + BATCH_SIZE, messages.size()));
+            inserted += insertBatch(conversationId, familyId, batch, fingerprinter);
+        }
+        return inserted;
+    }
+
+    private int insertBatch(Long conversationId, Long familyId, List<MessageDto> batch, MessageFingerprinter fingerprinter) {
+        Map<String, MessageDto> byFingerprint = new LinkedHashMap<>();
+        for (MessageDto message : batch) {
+            byFingerprint.putIfAbsent(fingerprinter.next(message), message);
+        }
+
+        // 이미 저장된 메시지는 INSERT 전에 제외 (대부분의 재업로드는 여기서 걸러짐)
+        Set<String> existing = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                EXISTING_FINGERPRINTS_SQL, Map.of("fingerprints", byFingerprint.keySet()), String.class));
+        List<Map.Entry<String, MessageDto>> rows = byFingerprint.entrySet().stream()
+                .filter(entry -> !existing.contains(entry.getKey()))
+                .toList();
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // 동시에 같은 메시지가 올라온 경우는 ON CONFLICT로 건너뛰며, 저장된 행이 없으면 대화방도 갱신하지 않아 결과가 비어 있음
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Integer> counts = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL);
+            ps.setLong(1, conversationId);
+            ps.setLong(2, familyId);
+            ps.setTimestamp(3, now);
+            ps.setArray(4, connection.createArrayOf("bigint", rows.stream()
+                    .map(row -> row.getValue().senderId()).toArray()));
+            ps.setArray(5, connection.createArrayOf("varchar", rows.stream()
+                    .map(row -> row.getValue().type().name()).toArray()));
+            ps.setArray(6, connection.createArrayOf("text", rows.stream()
+                    .map(row -> row.getValue().content()).toArray()));
+            ps.setArray(7, connection.createArrayOf("varchar", rows.stream()
+                    .map(row -> row.getValue().imageUrl()).toArray()));
+            ps.setArray(8, connection.createArrayOf("timestamp", rows.stream()
+                    .map(row -> Timestamp.valueOf(row.getValue().sentAt())).toArray()));
+            ps.setArray(9, connection.createArrayOf("varchar", rows.stream()
+                    .map(Map.Entry::getKey).toArray()));
+            ps.setLong(10, conversationId);
+            ps.setTimestamp(11, now);
+            ps.setLong(12, conversationId);
+            return ps;
+        }, (rs, rowNum) -> rs.getInt("inserted_count"));
+
+        int inserted = counts.isEmpty() ? 0 : counts.getFirst();
+
+        log.debug("Messages batch inserted. conversationId: {}, rows: {}, inserted: {}, skipped: {}",
+                conversationId, batch.size(), inserted, batch.size() - inserted);
+        return inserted;
+    }
+}
@@ -3,6 +3,9 @@ package com.example.spring.conversation.repository;
 import com.example.spring.conversation.domain.Conversation;
 import com.example.spring.conversation.domain.Message;
 import com.example.spring.conversation.domain.MessageType;
+import com.example.spring.conversation.dto.MessageResponse;
+import com.example.spring.conversation.dto.MessageWindowSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,27 +20,84 @@ import java.util.List;
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Long> {
 
+    /**
+     * MessageResponse 생성자 프로젝션 (발신자를 조인하여 한 번의 SQL로 응답 필드만 조회)
+     */
+    String SELECT_MESSAGE_RESPONSE = "SELECT new com.example.spring.conversation.dto.MessageResponse(" +
+            "m.id, m.conversation.id, s.id, s.nickname, m.type, m.content, m.imageUrl, m.imageDescription, " +
+            "m.sentAt, m.createdAt) " +
+            "FROM Message m JOIN m.sender s ";
+
     /**
      * 특정 대화방의 모든 메시지를 시간 순으로 조회
      */
     List<Message> findByConversationOrderBySentAtAsc(Conversation conversation);
 
     /**
-     * 특정 대화방의 특정 기간 메시지 조회
+     * 특정 대화방의 특정 기간 메시지 첫 페이지 (최신순, 키셋 페이지네이션)
      */
-    @Query("SELECT m FROM Message m WHERE m.conversation = :conversation " +
-            "AND m.sentAt BETWEEN :start AND :end ORDER BY m.sentAt ASC")
-    List<Message> findByConversationAndSentAtBetween(
-            @Param("conversation") Conversation conversation,
+    @Query(SELECT_MESSAGE_RESPONSE +
+            "WHERE m.conversation.id = :conversationId " +
+            "AND m.sentAt BETWEEN :start AND :end " +
+            "ORDER BY m.sentAt DESC, m.id DESC")
+    List<MessageResponse> findPageByConversationId(
+            @Param("conversationId") Long conversationId,
             @Param("start") LocalDateTime start,
-            @Param("end") LocalDateTime end
+            @Param("end") LocalDateTime end,
+            Pageable pageable
+    );
+
+    /**
+     * 특정 대화방의 특정 기간 메시지 중 커서 이전 페이지 (최신순, 키셋 페이지네이션)
+     */
+    @Query(SELECT_MESSAGE_RESPONSE +
+            "WHERE m.conversation.id = :conversationId " +
+            "AND m.sentAt BETWEEN :start AND :end " +
+            "AND (m.sentAt < :cursorSentAt OR (m.sentAt = :cursorSentAt AND m.id < :cursorId)) " +
+            "ORDER BY m.sentAt DESC, m.id DESC")
+    List<MessageResponse> findPageByConversationIdBefore(
+            @Param("conversationId") Long conversationId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("cursorSentAt") LocalDateTime cursorSentAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * 특정 가족의 최근 N일 메시지 첫 페이지 (최신순, 키셋 페이지네이션)
+     */
+    @Query(SELECT_MESSAGE_RESPONSE +
+            "WHERE m.familyId = :familyId " +
+            "AND m.sentAt >= :since " +
+            "ORDER BY m.sentAt DESC, m.id DESC")
+    List<MessageResponse> findPageByFamilyId(
+            @Param("familyId") Long familyId,
+            @Param("since") LocalDateTime since,
+            Pageable pageable
+    );
+
+    /**
+     * 특정 가족의 최근 N일 메시지 중 커서 이전 페이지 (최신순, 키셋 페이지네이션)
+     */
+    @Query(SELECT_MESSAGE_RESPONSE +
+            "WHERE m.familyId = :familyId " +
+            "AND m.sentAt >= :since " +
+            "AND (m.sentAt < :cursorSentAt OR (m.sentAt = :cursorSentAt AND m.id < :cursorId)) " +
+            "ORDER BY m.sentAt DESC, m.id DESC")
+    List<MessageResponse> findPageByFamilyIdBefore(
+            @Param("familyId") Long familyId,
+            @Param("since") LocalDateTime since,
+            @Param("cursorSentAt") LocalDateTime cursorSentAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
     );
 
     /**
      * 특정 가족의 특정 기간 모든 메시지 조회 (분석용)
      */
     @Query("SELECT m FROM Message m " +
-            "WHERE m.conversation.family.id = :familyId " +
+            "WHERE m.familyId = :familyId " +
             "AND m.sentAt BETWEEN :start AND :end " +
             "ORDER BY m.sentAt ASC")
     List<Message> findByFamilyIdAndSentAtBetween(
@@ -50,7 +110,7 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
      * 특정 가족의 최근 N일 메시지 조회
      */
     @Query("SELECT m FROM Message m " +
-            "WHERE m.conversation.family.id = :familyId " +
+            "WHERE m.familyId = :familyId " +
             "AND m.sentAt >= :since " +
             "ORDER BY m.sentAt ASC")
     List<Message> findRecentMessagesByFamilyId(
@@ -58,14 +118,65 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
             @Param("since") LocalDateTime since
     );
 
+    /**
+     * 특정 가족의 최근 N일 메시지 응답 조회
+     */
+    @Query(SELECT_MESSAGE_RESPONSE +
+            "WHERE m.familyId = :familyId " +
+            "AND m.sentAt >= :since " +
+            "ORDER BY m.sentAt ASC")
+    List<MessageResponse> findRecentMessageResponsesByFamilyId(
+            @Param("familyId") Long familyId,
+            @Param("since") LocalDateTime since
+    );
+
+    /**
+     * 특정 가족의 최근 N일 메시지 집계 (메시지 내용은 조회하지 않음)
+     */
+    @Query("SELECT new com.example.spring.conversation.dto.MessageWindowSummary(COUNT(m), MAX(m.id), SUM(m.id)) " +
+            "FROM Message m " +
+            "WHERE m.familyId = :familyId " +
+            "AND m.sentAt >= :since")
+    MessageWindowSummary summarizeRecentMessagesByFamilyId(
+            @Param("familyId") Long familyId,
+            @Param("since") LocalDateTime since
+    );
+
+    /**
+     * 특정 가족의 최근 N일 메시지 중 주어진 ID 이후 메시지 조회 (증분 분석용)
+     */
+    @Query(SELECT_MESSAGE_RESPONSE +
+            "WHERE m.familyId = :familyId " +
+            "AND m.id > :afterId " +
+            "AND m.sentAt >= :since " +
+            "ORDER BY m.sentAt ASC")
+    List<MessageResponse> findNewMessagesByFamilyId(
+            @Param("familyId") Long familyId,
+            @Param("afterId") Long afterId,
+            @Param("since") LocalDateTime since
+    );
+
+    /**
+     * 특정 가족의 최근 N일 메시지 중 주어진 ID 이후 메시지가 있는지 확인
+     */
+    @Query("SELECT COUNT(m) > 0 FROM Message m " +
+            "WHERE m.familyId = :familyId " +
+            "AND m.id > :afterId " +
+            "AND m.sentAt >= :since")
+    boolean existsNewMessagesByFamilyId(
+            @Param("familyId") Long familyId,
+            @Param("afterId") Long afterId,
+            @Param("since") LocalDateTime since
+    );
+
     /**
      * 이미지 분석이 안 된 이미지 메시지 조회
      */
-    @Query("SELECT m FROM Message m " +
+    @Query(SELECT_MESSAGE_RESPONSE +
             "WHERE m.type = 'IMAGE' " +
             "AND m.imageDescription IS NULL " +
             "ORDER BY m.sentAt ASC")
-    List<Message> findUnanalyzedImageMessages();
+    List<MessageResponse> findUnanalyzedImageMessages();
 
     /**
      * 특정 대화방의 마지막 메시지 조회
@@ -80,7 +191,7 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
      * 특정 가족의 특정 타입 메시지 조회
      */
     @Query("SELECT m FROM Message m " +
-            "WHERE m.conversation.family.id = :familyId " +
+            "WHERE m.familyId = :familyId " +
             "AND m.type = :type " +
             "AND m.sentAt BETWEEN :start AND :end " +
             "ORDER BY m.sentAt ASC")
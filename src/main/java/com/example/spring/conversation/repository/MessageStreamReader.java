@@ -0,0 +1,80 @@
+package com.example.spring.conversation.repository;
+
+import com.example.spring.conversation.domain.MessageType;
+import com.example.spring.conversation.dto.MessageResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 메시지 스트림 조회
+ * 결과 전체를 메모리에 올리지 않고 DB 커서로 fetch size만큼씩 읽으면서 한 건씩 전달
+ * (PostgreSQL은 트랜잭션 안에서만 커서 조회가 동작하므로 읽는 동안 읽기 전용 트랜잭션 유지)
+ * 느린 클라이언트가 커넥션을 오래 잡지 않도록 마감 시각이 지나면 조회를 중단
+ */
+@Repository
+public class MessageStreamReader {
+
+    private static final int FETCH_SIZE = 500;
+
+    private static final String RECENT_BY_FAMILY_SQL = "SELECT m.id, m.conversation_id, m.sender_id, u.nickname, " +
+            "m.type, m.content, m.image_url, m.image_description, m.sent_at, m.created_at " +
+            "FROM messages m " +
+            "JOIN users u ON u.id = m.sender_id " +
+            "WHERE m.family_id = ? AND m.sent_at >= ? " +
+            "ORDER BY m.sent_at, m.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MessageStreamReader(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    /**
+     * 특정 가족의 특정 시각 이후 메시지를 시간 순으로 한 건씩 전달
+     *
+     * @param deadline 이 시각이 지나면 IllegalStateException으로 중단 (트랜잭션과 커넥션 반환)
+     * @return 전달한 메시지 수
+     */
+    @Transactional(readOnly = true)
+    public long forEachRecentByFamily(Long familyId, LocalDateTime since, Instant deadline,
+                                      Consumer<MessageResponse> consumer) {
+        long[] count = new long[1];
+        jdbcTemplate.query(RECENT_BY_FAMILY_SQL, rs -> {
+            if (Instant.now().isAfter(deadline)) {
+                throw new IllegalStateException("메시지 내보내기 시간이 초과되었습니다. 기간을 줄여 다시 요청해주세요. exported: " + count[0]);
+            }
+            consumer.accept(toResponse(rs));
+            count[0]++;
+        }, familyId, Timestamp.valueOf(since));
+        return count[0];
+    }
+
+    private MessageResponse toResponse(ResultSet rs) throws SQLException {
+        return new MessageResponse(
+                rs.getLong("id"),
+                rs.getLong("conversation_id"),
+                rs.getLong("sender_id"),
+                rs.getString("nickname"),
+                MessageType.valueOf(rs.getString("type")),
+                rs.getString("content"),
+                rs.getString("image_url"),
+                rs.getString("image_description"),
+                toLocalDateTime(rs.getTimestamp("sent_at")),
+                toLocalDateTime(rs.getTimestamp("created_at"))
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.spring.conversation.service;
+
+import com.example.spring.conversation.domain.Conversation;
+import com.example.spring.conversation.dto.MessageDto;
+import com.example.spring.conversation.dto.MessageImportResponse;
+import com.example.spring.conversation.event.MessagesUploadedEvent;
+import com.example.spring.conversation.repository.ConversationRepository;
+import com.example.spring.conversation.repository.MessageBulkInserter;
+import com.example.spring.conversation.support.KakaoTalkExportParser;
+import com.example.spring.conversation.support.MessageFingerprinter;
+import com.example.spring.family.domain.FamilyMember;
+import com.example.spring.family.repository.FamilyMemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 카카오톡 대화 파일 가져오기 서비스
+ * 내보내기 파일(txt/csv, gzip 가능)을 스트림으로 읽어 정해진 크기의 배치로 저장
+ * 이미 가져온 메시지는 건너뛰므로 기간이 겹치는 파일을 다시 올려도 중복되지 않음
+ * 파일 크기와 관계없이 메모리에는 배치 1개 분량의 메시지만 유지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConversationImportService {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_REPORTED_UNMAPPED_SENDERS = 20;
+
+    private final ConversationRepository conversationRepository;
+    private final FamilyMemberRepository familyMemberRepository;
+    private final MessageBulkInserter messageBulkInserter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 카카오톡 대화 파일 가져오기
+     * 대화명은 가족 구성원의 가족 내 닉네임 또는 사용자 닉네임으로 연결하며, nicknames로 직접 지정할 수 있음
+     * 배치마다 커밋하므로 도중에 실패하면 그 전 배치까지는 저장된 상태로 남음
+     *
+     * @param nicknames 대화명 → 사용자 ID (없으면 null, 자동 연결보다 우선)
+     */
+    public MessageImportResponse importKakaoTalk(Long conversationId, MultipartFile file, Map<String, Long> nicknames) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("가져올 파일이 비어있습니다.");
+        }
+        log.info("Importing KakaoTalk export. conversationId: {}, fileName: {}, size: {}",
+                conversationId, file.getOriginalFilename(), file.getSize());
+        long startedAt = System.nanoTime();
+
+        ImportTarget target = transactionTemplate.execute(status -> loadTarget(conversationId, nicknames));
+
+        MessageFingerprinter fingerprinter = MessageFingerprinter.forChronologicalStream(conversationId);
+        List<MessageDto> batch = new ArrayList<>(BATCH_SIZE);
+        Set<String> unmappedSenders = new LinkedHashSet<>();
+        long[] counts = new long[3]; // parsed, imported, unmapped
+
+        try (BufferedReader reader = openReader(file)) {
+            new KakaoTalkExportParser(reader).forEach(message -> {
+                counts[0]++;
+                Long senderId = target.senderIds().get(message.sender());
+                if (senderId == null) {
+                    counts[2]++;
+                    if (unmappedSenders.size() < MAX_REPORTED_UNMAPPED_SENDERS) {
+                        unmappedSenders.add(message.sender());
+                    }
+                    return;
+                }
+
+                batch.add(MessageDto.text(senderId, message.content(), message.sentAt()));
+                if (batch.size() >= BATCH_SIZE) {
+                    counts[1] += flush(conversationId, target.familyId(), batch, fingerprinter);
+                }
+            });
+            if (!batch.isEmpty()) {
+                counts[1] += flush(conversationId, target.familyId(), batch, fingerprinter);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        } finally {
+            // 일부만 저장된 경우에도 저장된 메시지는 분석 대상
+            if (counts[1] > 0) {
+                eventPublisher.publishEvent(new MessagesUploadedEvent(
+                        target.familyId(), conversationId, (int) Math.min(counts[1], Integer.MAX_VALUE)));
+            }
+        }
+
+        MessageImportResponse response = MessageImportResponse.of(conversationId, counts[0], counts[1], counts[2],
+                List.copyOf(unmappedSenders), (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("KakaoTalk export imported. conversationId: {}, parsed: {}, imported: {}, duplicates: {}, " +
+                        "unmapped: {}, elapsedMs: {}, rowsPerSecond: {}",
+                conversationId, response.parsedCount(), response.importedCount(), response.duplicateCount(),
+                response.unmappedCount(),
+                response.elapsedMillis(), String.format("%.1f", response.rowsPerSecond()));
+        return response;
+    }
+
+    /**
+     * 대화방과 대화명 → 사용자 ID 매핑 조회
+     */
+    private ImportTarget loadTarget(Long conversationId, Map<String, Long> nicknames) {
+        Conversation conversation = conversationRepository.findById(conversationId)
+                .orElseThrow(() -> new IllegalArgumentException("대화방을 찾을 수 없습니다. conversationId: " + conversationId));
+
+        List<FamilyMember> members = familyMemberRepository.findByFamily(conversation.getFamily());
+        Map<String, Long> senderIds = new HashMap<>();
+        Set<Long> memberIds = new HashSet<>();
+        for (FamilyMember member : members) {
+            Long userId = member.getUser().getId();
+            memberIds.add(userId);
+            putIfPresent(senderIds, member.getUser().getNickname(), userId);
+            // 가족 내 닉네임이 사용자 닉네임보다 우선
+            putIfPresent(senderIds, member.getNickname(), userId);
+        }
+
+        if (nicknames != null) {
+            nicknames.forEach((nickname, userId) -> {
+                if (!memberIds.contains(userId)) {
+                    throw new IllegalArgumentException("가족 구성원이 아닌 사용자입니다. userId: " + userId);
+                }
+                senderIds.put(nickname.trim(), userId);
+            });
+        }
+
+        return new ImportTarget(conversation.getFamily().getId(), senderIds);
+    }
+
+    private int flush(Long conversationId, Long familyId, List<MessageDto> batch, MessageFingerprinter fingerprinter) {
+        Integer inserted = transactionTemplate.execute(status ->
+                messageBulkInserter.insertAll(conversationId, familyId, batch, fingerprinter));
+        batch.clear();
+        return inserted != null ? inserted : 0;
+    }
+
+    /**
+     * 파일 스트림 열기 (gzip 매직 바이트가 있으면 압축 해제)
+     */
+    private BufferedReader openReader(MultipartFile file) throws IOException {
+        InputStream in = new BufferedInputStream(file.getInputStream());
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        if (first == 0x1f && second == 0x8b) {
+            in = new GZIPInputStream(in);
+        }
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    private static void putIfPresent(Map<String, Long> senderIds, String nickname, Long userId) {
+        if (nickname != null && !nickname.isBlank()) {
+            senderIds.put(nickname.trim(), userId);
+        }
+    }
+
+    private record ImportTarget(Long familyId, Map<String, Long> senderIds) {
+    }
+}
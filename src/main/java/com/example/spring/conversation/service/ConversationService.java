@@ -3,19 +3,32 @@ package com.example.spring.conversation.service;
 import com.example.spring.conversation.domain.Conversation;
 import com.example.spring.conversation.domain.Message;
 import com.example.spring.conversation.dto.*;
+import com.example.spring.conversation.event.MessagesUploadedEvent;
 import com.example.spring.conversation.repository.ConversationRepository;
+import com.example.spring.conversation.repository.MessageBulkInserter;
 import com.example.spring.conversation.repository.MessageRepository;
+import com.example.spring.conversation.repository.MessageStreamReader;
+import com.example.spring.conversation.support.MessageCursor;
+import com.example.spring.conversation.support.MessageExportLimiter;
+import com.example.spring.conversation.support.MessageFingerprinter;
+import com.example.spring.conversation.support.NdjsonMessageWriter;
 import com.example.spring.family.domain.Family;
 import com.example.spring.family.repository.FamilyRepository;
 import com.example.spring.user.domain.User;
 import com.example.spring.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 대화 서비스
@@ -26,10 +39,19 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ConversationService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final LocalDateTime MIN_SENT_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_SENT_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     private final ConversationRepository conversationRepository;
     private final MessageRepository messageRepository;
     private final FamilyRepository familyRepository;
     private final UserRepository userRepository;
+    private final MessageBulkInserter messageBulkInserter;
+    private final MessageStreamReader messageStreamReader;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MessageExportLimiter messageExportLimiter;
 
     /**
      * 대화방 생성
@@ -55,46 +77,58 @@ public class ConversationService {
 
     /**
      * 메시지 일괄 업로드
+     * 발신자는 한 번의 쿼리로 확인하고, 메시지는 배치마다 INSERT 한 문장으로 저장
+     * 이미 저장된 메시지(같은 지문)는 건너뛰므로 전체 대화 기록을 다시 올려도 안전
      */
     @Transactional
-    public ConversationResponse uploadMessages(UploadMessagesRequest request) {
+    public MessageUploadResponse uploadMessages(UploadMessagesRequest request) {
         log.info("Uploading messages. conversationId: {}, messageCount: {}",
                 request.conversationId(), request.messages().size());
+        long startedAt = System.nanoTime();
 
         Conversation conversation = conversationRepository.findById(request.conversationId())
                 .orElseThrow(() -> new IllegalArgumentException("대화방을 찾을 수 없습니다. conversationId: " + request.conversationId()));
 
-        List<Message> messages = request.messages().stream()
-                .map(dto -> createMessage(conversation, dto))
-                .toList();
+        validateSenders(request.messages());
 
-        messageRepository.saveAll(messages);
+        int insertedCount = messageBulkInserter.insertAll(conversation.getId(), conversation.getFamily().getId(),
+                request.messages(), MessageFingerprinter.forList(conversation.getId()));
 
-        log.info("Messages uploaded successfully. conversationId: {}, uploadedCount: {}",
-                conversation.getId(), messages.size());
+        MessageUploadResponse response = MessageUploadResponse.of(conversation.getId(), request.messages().size(),
+                insertedCount, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("Messages uploaded successfully. conversationId: {}, inserted: {}, skipped: {}, elapsedMs: {}, " +
+                        "rowsPerSecond: {}",
+                conversation.getId(), response.insertedCount(), response.skippedCount(), response.elapsedMillis(),
+                String.format("%.1f", response.rowsPerSecond()));
 
-        return ConversationResponse.from(conversation);
+        if (insertedCount > 0) {
+            // 커밋 후 가족 분석 예약
+            eventPublisher.publishEvent(new MessagesUploadedEvent(
+                    conversation.getFamily().getId(), conversation.getId(), insertedCount));
+        }
+
+        return response;
     }
 
     /**
-     * MessageDto를 Message 엔티티로 변환
+     * 모든 발신자가 존재하는지 확인 (중복 제거 후 한 번에 조회)
      */
-    private Message createMessage(Conversation conversation, MessageDto dto) {
-        User sender = userRepository.findById(dto.senderId())
-                .orElseThrow(() -> new IllegalArgumentException("발신자를 찾을 수 없습니다. userId: " + dto.senderId()));
-
-        Message message = Message.builder()
-                .conversation(conversation)
-                .sender(sender)
-                .type(dto.type())
-                .content(dto.content())
-                .imageUrl(dto.imageUrl())
-                .sentAt(dto.sentAt())
-                .build();
-
-        conversation.addMessage(message);
-
-        return message;
+    private void validateSenders(List<MessageDto> messages) {
+        Set<Long> senderIds = messages.stream()
+                .map(MessageDto::senderId)
+                .collect(Collectors.toSet());
+
+        Set<Long> foundIds = userRepository.findAllById(senderIds).stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
+
+        if (foundIds.size() != senderIds.size()) {
+            List<Long> missingIds = senderIds.stream()
+                    .filter(senderId -> !foundIds.contains(senderId))
+                    .sorted()
+                    .toList();
+            throw new IllegalArgumentException("발신자를 찾을 수 없습니다. userIds: " + missingIds);
+        }
     }
 
     /**
@@ -103,10 +137,11 @@ public class ConversationService {
     public List<ConversationResponse> getConversationsByFamily(Long familyId) {
         log.info("Getting conversations by family. familyId: {}", familyId);
 
-        Family family = familyRepository.findById(familyId)
-                .orElseThrow(() -> new IllegalArgumentException("가족 그룹을 찾을 수 없습니다. familyId: " + familyId));
+        List<Conversation> conversations = conversationRepository.findByFamilyIdOrderByUpdatedAtDesc(familyId);
 
-        List<Conversation> conversations = conversationRepository.findByFamilyOrderByUpdatedAtDesc(family);
+        if (conversations.isEmpty() && !familyRepository.existsById(familyId)) {
+            throw new IllegalArgumentException("가족 그룹을 찾을 수 없습니다. familyId: " + familyId);
+        }
 
         return conversations.stream()
                 .map(ConversationResponse::fromWithoutMessages)
@@ -114,32 +149,51 @@ public class ConversationService {
     }
 
     /**
-     * 특정 대화방 상세 조회 (메시지 포함)
+     * 특정 대화방 상세 조회 (최신 메시지 한 페이지 포함)
      */
-    public ConversationResponse getConversation(Long conversationId) {
+    public ConversationResponse getConversation(Long conversationId, int size) {
         log.info("Getting conversation detail. conversationId: {}", conversationId);
 
         Conversation conversation = conversationRepository.findById(conversationId)
                 .orElseThrow(() -> new IllegalArgumentException("대화방을 찾을 수 없습니다. conversationId: " + conversationId));
 
-        return ConversationResponse.from(conversation);
+        MessagePageResponse latest = getMessagePage(conversationId, null, null, null, size);
+
+        return ConversationResponse.of(conversation, latest);
     }
 
     /**
-     * 특정 대화방의 특정 기간 메시지 조회
+     * 특정 대화방의 메시지 페이지 조회 (최신순, 키셋 페이지네이션)
+     * 커서 위치부터 인덱스를 따라 읽으므로 오래된 페이지도 첫 페이지와 같은 비용
+     *
+     * @param start 조회 시작 시각 (없으면 처음부터)
+     * @param end 조회 종료 시각 (없으면 현재까지)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
      */
-    public List<MessageResponse> getMessagesByPeriod(Long conversationId, LocalDateTime start, LocalDateTime end) {
-        log.info("Getting messages by period. conversationId: {}, start: {}, end: {}",
-                conversationId, start, end);
-
-        Conversation conversation = conversationRepository.findById(conversationId)
-                .orElseThrow(() -> new IllegalArgumentException("대화방을 찾을 수 없습니다. conversationId: " + conversationId));
-
-        List<Message> messages = messageRepository.findByConversationAndSentAtBetween(conversation, start, end);
-
-        return messages.stream()
-                .map(MessageResponse::from)
-                .toList();
+    public MessagePageResponse getMessagePage(Long conversationId, LocalDateTime start, LocalDateTime end,
+                                              String cursor, int size) {
+        log.info("Getting message page. conversationId: {}, start: {}, end: {}, cursor: {}, size: {}",
+                conversationId, start, end, cursor, size);
+
+        if (!conversationRepository.existsById(conversationId)) {
+            throw new IllegalArgumentException("대화방을 찾을 수 없습니다. conversationId: " + conversationId);
+        }
+
+        LocalDateTime from = start != null ? start : MIN_SENT_AT;
+        LocalDateTime to = end != null ? end : MAX_SENT_AT;
+        int limit = pageSizeOf(size);
+        PageRequest pageable = PageRequest.of(0, limit + 1);
+
+        List<MessageResponse> messages;
+        if (cursor == null || cursor.isBlank()) {
+            messages = messageRepository.findPageByConversationId(conversationId, from, to, pageable);
+        } else {
+            MessageCursor position = MessageCursor.decode(cursor);
+            messages = messageRepository.findPageByConversationIdBefore(
+                    conversationId, from, to, position.sentAt(), position.id(), pageable);
+        }
+
+        return toPage(messages, limit);
     }
 
     /**
@@ -149,11 +203,112 @@ public class ConversationService {
         log.info("Getting recent messages by family. familyId: {}, days: {}", familyId, days);
 
         LocalDateTime since = LocalDateTime.now().minusDays(days);
-        List<Message> messages = messageRepository.findRecentMessagesByFamilyId(familyId, since);
+        return messageRepository.findRecentMessageResponsesByFamilyId(familyId, since);
+    }
 
-        return messages.stream()
-                .map(MessageResponse::from)
-                .toList();
+    /**
+     * 특정 가족의 최근 N일 메시지 페이지 조회 (최신순, 키셋 페이지네이션)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     */
+    public MessagePageResponse getRecentMessagePageByFamily(Long familyId, int days, String cursor, int size) {
+        log.info("Getting recent message page by family. familyId: {}, days: {}, cursor: {}, size: {}",
+                familyId, days, cursor, size);
+
+        LocalDateTime since = LocalDateTime.now().minusDays(days);
+        int limit = pageSizeOf(size);
+        PageRequest pageable = PageRequest.of(0, limit + 1);
+
+        List<MessageResponse> messages;
+        if (cursor == null || cursor.isBlank()) {
+            messages = messageRepository.findPageByFamilyId(familyId, since, pageable);
+        } else {
+            MessageCursor position = MessageCursor.decode(cursor);
+            messages = messageRepository.findPageByFamilyIdBefore(
+                    familyId, since, position.sentAt(), position.id(), pageable);
+        }
+
+        return toPage(messages, limit);
+    }
+
+    /**
+     * 특정 가족의 최근 N일 메시지를 NDJSON으로 내보내기 (시간 순)
+     * 메시지를 DB 커서로 읽으면서 바로 출력하므로 기간이 길어도 요청당 메모리 사용량이 일정함
+     * 가족 확인은 호출 시점에, 조회와 출력은 반환된 본문이 응답을 쓸 때 수행
+     * 내보내는 동안 DB 커넥션을 잡고 있으므로 동시 내보내기 수와 내보내기 시간을 제한
+     * 자리는 응답을 시작하기 전에 확보하므로 가득 차면 ExportCapacityExceededException(429)으로 거절
+     */
+    public StreamingResponseBody exportRecentMessagesByFamily(Long familyId, int days) {
+        log.info("Exporting recent messages by family. familyId: {}, days: {}", familyId, days);
+
+        if (!familyRepository.existsById(familyId)) {
+            throw new IllegalArgumentException("가족 그룹을 찾을 수 없습니다. familyId: " + familyId);
+        }
+        LocalDateTime since = LocalDateTime.now().minusDays(days);
+
+        // 응답 상태를 정하기 전에 자리를 확보 (본문이 실행된 뒤에는 오류 응답을 보낼 수 없음)
+        MessageExportLimiter.Permit permit = messageExportLimiter.acquire();
+
+        return out -> {
+            long startedAt = System.nanoTime();
+            try (NdjsonMessageWriter writer = new NdjsonMessageWriter(objectMapper, out)) {
+                long exported = messageStreamReader.forEachRecentByFamily(
+                        familyId, since, permit.deadlineFromNow(), writer::write);
+                log.info("Messages exported. familyId: {}, days: {}, exported: {}, elapsedMs: {}",
+                        familyId, days, exported, (System.nanoTime() - startedAt) / 1_000_000);
+            } finally {
+                permit.release();
+            }
+        };
+    }
+
+    /**
+     * limit + 1개를 조회한 결과로 페이지 생성 (초과분이 있으면 다음 페이지 있음)
+     */
+    private MessagePageResponse toPage(List<MessageResponse> messages, int limit) {
+        boolean hasNext = messages.size() > limit;
+        List<MessageResponse> page = hasNext ? messages.subList(0, limit) : messages;
+
+        String nextCursor = null;
+        if (hasNext) {
+            MessageResponse last = page.get(page.size() - 1);
+            nextCursor = new MessageCursor(last.sentAt(), last.id()).encode();
+        }
+        return new MessagePageResponse(page, nextCursor, hasNext);
+    }
+
+    private int pageSizeOf(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다. size: " + size);
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * 특정 가족의 최근 N일 메시지 집계 (분석 구간 지문용)
+     */
+    public MessageWindowSummary summarizeRecentMessagesByFamily(Long familyId, int days) {
+        LocalDateTime since = LocalDateTime.now().minusDays(days);
+        return messageRepository.summarizeRecentMessagesByFamilyId(familyId, since);
+    }
+
+    /**
+     * 특정 가족의 최근 N일 메시지 중 주어진 메시지 ID 이후 메시지 조회 (증분 분석용)
+     */
+    public List<MessageResponse> getNewMessagesByFamily(Long familyId, Long afterMessageId, int days) {
+        log.info("Getting new messages by family. familyId: {}, afterMessageId: {}, days: {}",
+                familyId, afterMessageId, days);
+
+        LocalDateTime since = LocalDateTime.now().minusDays(days);
+        return messageRepository.findNewMessagesByFamilyId(familyId, afterMessageId, since);
+    }
+
+    /**
+     * 특정 가족의 최근 N일 메시지 중 주어진 메시지 ID 이후 메시지가 있는지 확인
+     */
+    public boolean hasNewMessagesByFamily(Long familyId, Long afterMessageId, int days) {
+        LocalDateTime since = LocalDateTime.now().minusDays(days);
+        return messageRepository.existsNewMessagesByFamilyId(familyId, afterMessageId, since);
     }
 
     /**
@@ -162,11 +317,7 @@ public class ConversationService {
     public List<MessageResponse> getUnanalyzedImageMessages() {
         log.info("Getting unanalyzed image messages");
 
-        List<Message> messages = messageRepository.findUnanalyzedImageMessages();
-
-        return messages.stream()
-                .map(MessageResponse::from)
-                .toList();
+        return messageRepository.findUnanalyzedImageMessages();
     }
 
     /**
@@ -0,0 +1,242 @@
+package com.example.spring.conversation.support;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 카카오톡 대화 내보내기 파일 파서
+ * 파일 전체를 메모리에 올리지 않고 한 줄씩 읽으면서 메시지 단위로 전달
+ * - PC txt: "--------------- 2024년 1월 15일 월요일 ---------------" / "[엄마] [오전 10:30] 내용"
+ * - 모바일 txt: "2024년 1월 15일 오전 10:30, 엄마 : 내용" / "2024. 1. 15. 오전 10:30, 엄마 : 내용"
+ * - csv: "Date,User,Message" 헤더 + "2024-01-15 10:30:00,"엄마","내용""
+ * 메시지 형식이 아닌 줄은 앞 메시지의 다음 줄로 이어 붙임 (여러 줄 메시지)
+ */
+public final class KakaoTalkExportParser {
+
+    /**
+     * 메시지 1건의 최대 글자 수 (넘으면 잘라냄)
+     */
+    public static final int MAX_CONTENT_LENGTH = 10_000;
+
+    private static final Pattern PC_DATE = Pattern.compile(
+            "^-+\\s*(\\d{4})년 (\\d{1,2})월 (\\d{1,2})일.*-+$");
+    private static final Pattern PC_MESSAGE = Pattern.compile(
+            "^\\[(.+?)] \\[(오전|오후) (\\d{1,2}):(\\d{2})] (.*)$");
+    private static final Pattern MOBILE_MESSAGE = Pattern.compile(
+            "^(\\d{4})[년.]\\s*(\\d{1,2})[월.]\\s*(\\d{1,2})[일.]?\\s+(오전|오후)\\s+(\\d{1,2}):(\\d{2}),\\s(.+?)\\s:\\s(.*)$");
+    private static final Pattern MOBILE_LINE = Pattern.compile(
+            "^(\\d{4})[년.]\\s*(\\d{1,2})[월.]\\s*(\\d{1,2})[일.]?\\s.*$");
+    private static final String CSV_HEADER = "Date,User,Message";
+    private static final DateTimeFormatter CSV_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final BufferedReader reader;
+
+    private LocalDate currentDate;
+    private String pendingSender;
+    private LocalDateTime pendingSentAt;
+    private StringBuilder pendingContent;
+
+    public KakaoTalkExportParser(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 파일 끝까지 읽으면서 메시지마다 consumer 호출
+     */
+    public void forEach(Consumer<ParsedMessage> consumer) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return;
+        }
+        line = stripBom(line);
+
+        if (line.startsWith(CSV_HEADER)) {
+            parseCsv(consumer);
+            return;
+        }
+
+        do {
+            try {
+                parseTextLine(line, consumer);
+            } catch (DateTimeException e) {
+                // 형식은 맞지만 존재하지 않는 날짜/시각이면 일반 줄로 취급
+                if (pendingContent != null) {
+                    appendContent("\n" + line);
+                }
+            }
+        } while ((line = reader.readLine()) != null);
+        emitPending(consumer);
+    }
+
+    private void parseTextLine(String line, Consumer<ParsedMessage> consumer) {
+        Matcher matcher = PC_DATE.matcher(line);
+        if (matcher.matches()) {
+            LocalDate date = dateOf(matcher.group(1), matcher.group(2), matcher.group(3));
+            emitPending(consumer);
+            currentDate = date;
+            return;
+        }
+
+        matcher = PC_MESSAGE.matcher(line);
+        if (matcher.matches() && currentDate != null) {
+            LocalDateTime sentAt = currentDate.atTime(timeOf(matcher.group(2), matcher.group(3), matcher.group(4)));
+            emitPending(consumer);
+            startPending(matcher.group(1), sentAt, matcher.group(5));
+            return;
+        }
+
+        matcher = MOBILE_MESSAGE.matcher(line);
+        if (matcher.matches()) {
+            // 날짜/시각을 먼저 해석해야 잘못된 날짜일 때 앞 메시지를 닫지 않고 이어 붙일 수 있음
+            LocalDateTime sentAt = dateOf(matcher.group(1), matcher.group(2), matcher.group(3))
+                    .atTime(timeOf(matcher.group(4), matcher.group(5), matcher.group(6)));
+            emitPending(consumer);
+            startPending(matcher.group(7), sentAt, matcher.group(8));
+            return;
+        }
+
+        if (MOBILE_LINE.matcher(line).matches()) {
+            // 모바일 날짜 구분선, 입장/퇴장 등 시스템 메시지
+            emitPending(consumer);
+            return;
+        }
+
+        if (pendingContent != null) {
+            appendContent("\n" + line);
+        }
+    }
+
+    /**
+     * csv 파싱 (따옴표로 감싼 필드 안의 줄바꿈 지원, 필드 안의 CRLF는 txt와 같이 LF로 통일)
+     */
+    private void parseCsv(Consumer<ParsedMessage> consumer) throws IOException {
+        List<String> fields = new ArrayList<>(3);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        appendCsv(field, '"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                        appendCsv(field, '\r');
+                    } else {
+                        appendCsv(field, '\n');
+                    }
+                } else {
+                    appendCsv(field, (char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                fields.add(field.toString());
+                field.setLength(0);
+                emitCsvRow(fields, consumer);
+                fields.clear();
+            } else if (c != '\r') {
+                appendCsv(field, (char) c);
+            }
+        }
+        if (!field.isEmpty() || !fields.isEmpty()) {
+            fields.add(field.toString());
+            emitCsvRow(fields, consumer);
+        }
+    }
+
+    private void appendCsv(StringBuilder field, char c) {
+        if (field.length() < MAX_CONTENT_LENGTH) {
+            field.append(c);
+        }
+    }
+
+    private void emitCsvRow(List<String> fields, Consumer<ParsedMessage> consumer) {
+        if (fields.size() < 3) {
+            return;
+        }
+        try {
+            LocalDateTime sentAt = LocalDateTime.parse(fields.get(0).trim(), CSV_DATE_TIME);
+            consumer.accept(new ParsedMessage(fields.get(1).trim(), sentAt, fields.get(2)));
+        } catch (DateTimeException e) {
+            // 형식이 맞지 않는 행은 건너뜀
+        }
+    }
+
+    private void startPending(String sender, LocalDateTime sentAt, String content) {
+        pendingSender = sender.trim();
+        pendingSentAt = sentAt;
+        pendingContent = new StringBuilder();
+        appendContent(content);
+    }
+
+    private void appendContent(String text) {
+        int remaining = MAX_CONTENT_LENGTH - pendingContent.length();
+        if (remaining > 0) {
+            pendingContent.append(text, 0, Math.min(text.length(), remaining));
+        }
+    }
+
+    private void emitPending(Consumer<ParsedMessage> consumer) {
+        if (pendingContent == null) {
+            return;
+        }
+        consumer.accept(new ParsedMessage(pendingSender, pendingSentAt, pendingContent.toString()));
+        pendingSender = null;
+        pendingSentAt = null;
+        pendingContent = null;
+    }
+
+    private static LocalDate dateOf(String year, String month, String day) {
+        return LocalDate.of(Integer.parseInt(year), Integer.parseInt(month), Integer.parseInt(day));
+    }
+
+    /**
+     * "오전 12:05" → 00:05, "오후 12:05" → 12:05, "오후 3:05" → 15:05
+     */
+    private static LocalTime timeOf(String meridiem, String hour, String minute) {
+        int h = Integer.parseInt(hour) % 12;
+        if ("오후".equals(meridiem)) {
+            h += 12;
+        }
+        return LocalTime.of(h, Integer.parseInt(minute));
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    /**
+     * 파싱된 메시지
+     *
+     * @param sender 내보내기 파일의 대화명
+     * @param sentAt 전송 시각 (분 단위)
+     * @param content 메시지 내용
+     */
+    public record ParsedMessage(
+            String sender,
+            LocalDateTime sentAt,
+            String content
+    ) {
+    }
+}
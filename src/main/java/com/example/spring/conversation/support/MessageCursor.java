@@ -0,0 +1,42 @@
+package com.example.spring.conversation.support;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 메시지 페이지 커서 (마지막으로 받은 메시지의 전송 시각 + ID)
+ * 클라이언트에는 불투명한 문자열로 전달
+ *
+ * @param sentAt 마지막 메시지 전송 시각
+ * @param id 마지막 메시지 ID (같은 시각 메시지 구분)
+ */
+public record MessageCursor(
+        LocalDateTime sentAt,
+        Long id
+) {
+
+    /**
+     * 커서 문자열로 변환
+     */
+    public String encode() {
+        String raw = sentAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     */
+    public static MessageCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new MessageCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다. cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.spring.conversation.support;
+
+import com.example.spring.common.exception.ExportCapacityExceededException;
+import com.example.spring.conversation.config.ConversationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 메시지 내보내기 제한기
+ * 내보내기는 응답을 다 쓸 때까지 DB 커넥션을 잡으므로 동시 내보내기 수와 내보내기 1건의 시간을 제한
+ * 자리는 응답을 시작하기 전에 확보해야 가득 찼을 때 오류 응답(429)을 보낼 수 있음
+ */
+@Component
+public class MessageExportLimiter {
+
+    private final Semaphore slots;
+    private final Duration timeout;
+
+    public MessageExportLimiter(ConversationProperties conversationProperties) {
+        ConversationProperties.Export export = conversationProperties.getExport();
+        this.slots = new Semaphore(export.getMaxConcurrent());
+        this.timeout = export.getTimeout();
+    }
+
+    /**
+     * 내보내기 자리 확보 (사용 후 반드시 {@link Permit#release()} 호출)
+     *
+     * @throws ExportCapacityExceededException 동시 내보내기 수가 가득 찬 경우
+     */
+    public Permit acquire() {
+        if (!slots.tryAcquire()) {
+            throw new ExportCapacityExceededException("진행 중인 메시지 내보내기가 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return new Permit();
+    }
+
+    /**
+     * 현재 사용 가능한 자리 수
+     */
+    public int availableSlots() {
+        return slots.availablePermits();
+    }
+
+    /**
+     * 내보내기 자리
+     */
+    public final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {
+        }
+
+        /**
+         * 지금 시작하는 내보내기의 마감 시각
+         */
+        public Instant deadlineFromNow() {
+            return Instant.now().plus(timeout);
+        }
+
+        /**
+         * 자리 반환 (여러 번 호출해도 한 번만 반환)
+         */
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                slots.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.spring.conversation.support;
+
+import com.example.spring.conversation.dto.MessageDto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * 메시지 중복 방지 지문 생성기
+ * 대화방 + 발신자 + 타입 + 전송 시각 + 내용(+ 이미지 URL)의 SHA-256
+ * 같은 시각에 같은 내용을 여러 번 보낸 경우("ㅋㅋ" 연속 등)는 업로드 안에서의 순번을 더해 서로 다른 지문을 가짐
+ * → 같은 파일을 다시 올리면 같은 지문이 나오므로 중복 저장되지 않음
+ * 순번은 업로드 안에서만 세므로 같은 지문의 메시지는 업로드 중 가장 많이 올라온 횟수만큼만 저장됨
+ * → 한 분(分)의 메시지가 두 업로드에 나뉘면 뒤 업로드의 반복 메시지가 앞 업로드와 같은 지문을 가져 빠질 수 있으므로,
+ *   나누어 올리는 경우 분 단위 경계에서 나누어야 안전함
+ *   (저장된 행 수부터 순번을 세면 같은 파일을 다시 올릴 때 반복 메시지가 모두 새로 저장되므로 그렇게 하지 않음)
+ */
+public final class MessageFingerprinter {
+
+    private final Long conversationId;
+    private final boolean chronological;
+    private final Map<String, Integer> occurrences = new HashMap<>();
+    private LocalDateTime lastSentAt;
+
+    private MessageFingerprinter(Long conversationId, boolean chronological) {
+        this.conversationId = conversationId;
+        this.chronological = chronological;
+    }
+
+    /**
+     * 순서와 관계없는 메시지 목록용 (순번을 업로드 전체에서 셈)
+     */
+    public static MessageFingerprinter forList(Long conversationId) {
+        return new MessageFingerprinter(conversationId, false);
+    }
+
+    /**
+     * 시간순 스트림용 (전송 시각이 바뀌면 순번을 초기화하여 메모리를 일정하게 유지)
+     */
+    public static MessageFingerprinter forChronologicalStream(Long conversationId) {
+        return new MessageFingerprinter(conversationId, true);
+    }
+
+    /**
+     * 다음 메시지의 지문 (업로드 순서대로 호출해야 함)
+     */
+    public String next(MessageDto message) {
+        if (chronological && !message.sentAt().equals(lastSentAt)) {
+            occurrences.clear();
+            lastSentAt = message.sentAt();
+        }
+
+        MessageDigest digest = sha256();
+        update(digest, String.valueOf(conversationId));
+        update(digest, String.valueOf(message.senderId()));
+        update(digest, message.type().name());
+        update(digest, message.sentAt().toString());
+        update(digest, message.content());
+        update(digest, message.imageUrl());
+        String base = HexFormat.of().formatHex(digest.digest());
+
+        int ordinal = occurrences.merge(base, 1, Integer::sum) - 1;
+        if (ordinal == 0) {
+            return base;
+        }
+        return HexFormat.of().formatHex(sha256().digest((base + "#" + ordinal).getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        // null과 빈 문자열을 구분
+        digest.update(value != null ? (byte) 0 : (byte) 1);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.spring.conversation.support;
+
+import com.example.spring.conversation.dto.MessageResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 메시지를 NDJSON(한 줄에 JSON 객체 하나)으로 출력
+ * 메시지마다 바로 출력 스트림에 쓰고, 일정 건수마다 flush하여 클라이언트가 받는 즉시 처리할 수 있게 함
+ * 각 메시지는 설정된 ObjectMapper로 직렬화하며, 시각은 ISO-8601 문자열("2024-01-15T10:30:00")로 출력
+ */
+public final class NdjsonMessageWriter implements AutoCloseable {
+
+    private static final int FLUSH_EVERY = 500;
+
+    private final ObjectWriter writer;
+    private final JsonGenerator generator;
+    private long written;
+
+    public NdjsonMessageWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.writer = objectMapper.writerFor(MessageResponse.class)
+                // 시각을 숫자 배열 대신 문자열로 출력
+                .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                // flush는 FLUSH_EVERY 건마다 직접 수행
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        // 응답 스트림은 서블릿 컨테이너가 닫음
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // 객체 사이 구분자는 직접 쓰는 줄바꿈만 사용
+        this.generator.setRootValueSeparator(null);
+    }
+
+    /**
+     * 메시지 한 줄 출력
+     */
+    public void write(MessageResponse message) {
+        try {
+            writer.writeValue(generator, message);
+            generator.writeRaw('\n');
+
+            if (++written % FLUSH_EVERY == 0) {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            // 클라이언트 연결 끊김 등: 조회를 중단하도록 예외 전파
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.spring.family.repository;
 
 import com.example.spring.family.domain.Family;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -21,4 +25,25 @@ public interface FamilyRepository extends JpaRepository<Family, Long> {
      * 초대 코드 존재 여부 확인
      */
     boolean existsByInviteCode(String inviteCode);
+
+    /**
+     * 주어진 ID 이후의 가족 ID를 오름차순으로 조회 (키셋 페이지네이션)
+     * 엔티티를 로딩하지 않고 ID만 조회
+     */
+    @Query("SELECT f.id FROM Family f WHERE f.id > :afterId ORDER BY f.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 특정 샤드(가족 ID % shardCount = shard)에서 주어진 ID 이후의 가족 ID 조회 (키셋 페이지네이션)
+     */
+    @Query("SELECT f.id FROM Family f " +
+            "WHERE f.id > :afterId " +
+            "AND MOD(f.id, :shardCount) = :shard " +
+            "ORDER BY f.id")
+    List<Long> findIdsInShardAfter(
+            @Param("afterId") Long afterId,
+            @Param("shardCount") int shardCount,
+            @Param("shard") int shard,
+            Pageable pageable
+    );
 }
@@ -65,6 +65,13 @@ public class HealthInsight {
     @Column(nullable = false)
     private LocalDateTime analyzedAt;
 
+    /**
+     * 분석한 대화 구간의 지문 (메시지 수, 최대 ID, ID 합계)
+     * 같은 구간을 다시 분석하지 않도록 비교에 사용
+     */
+    @Column(length = 100)
+    private String sourceFingerprint;
+
     /**
      * 생성 시각
      */
@@ -83,6 +90,13 @@ public class HealthInsight {
         this.analyzedAt = analyzedAt != null ? analyzedAt : LocalDateTime.now();
     }
 
+    /**
+     * 분석한 대화 구간의 지문 기록
+     */
+    public void recordSourceFingerprint(String sourceFingerprint) {
+        this.sourceFingerprint = sourceFingerprint;
+    }
+
     /**
      * 고위험 건강 이슈인지 확인
      */
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 감정 인사이트 Repository
@@ -21,6 +22,11 @@ public interface EmotionInsightRepository extends JpaRepository<EmotionInsight,
      */
     List<EmotionInsight> findByFamilyOrderByAnalyzedAtDesc(Family family);
 
+    /**
+     * 특정 가족의 가장 최근 감정 인사이트 조회
+     */
+    Optional<EmotionInsight> findFirstByFamilyIdOrderByAnalyzedAtDesc(Long familyId);
+
     /**
      * 특정 가족의 특정 기간 감정 인사이트 조회
      */
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 건강 인사이트 Repository
@@ -21,6 +22,11 @@ public interface HealthInsightRepository extends JpaRepository<HealthInsight, Lo
      */
     List<HealthInsight> findByFamilyOrderByAnalyzedAtDesc(Family family);
 
+    /**
+     * 특정 가족의 가장 최근 건강 인사이트 조회
+     */
+    Optional<HealthInsight> findFirstByFamilyIdOrderByAnalyzedAtDesc(Long familyId);
+
     /**
      * 특정 가족의 특정 기간 건강 인사이트 조회
      */
@@ -54,4 +60,15 @@ public interface HealthInsightRepository extends JpaRepository<HealthInsight, Lo
             @Param("familyId") Long familyId,
             @Param("since") LocalDateTime since
     );
+
+    /**
+     * 특정 시각 이후 생성된 건강 인사이트가 있는지 확인 (동시 분석 충돌 감지)
+     */
+    @Query("SELECT COUNT(h) > 0 FROM HealthInsight h " +
+            "WHERE h.family.id = :familyId " +
+            "AND h.createdAt > :since")
+    boolean existsByFamilyIdAndCreatedAtAfter(
+            @Param("familyId") Long familyId,
+            @Param("since") LocalDateTime since
+    );
 }
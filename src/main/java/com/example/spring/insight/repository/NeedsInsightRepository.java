@@ -9,6 +9,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 니즈 인사이트 Repository
@@ -21,6 +22,11 @@ public interface NeedsInsightRepository extends JpaRepository<NeedsInsight, Long
      */
     List<NeedsInsight> findByFamilyOrderByAnalyzedAtDesc(Family family);
 
+    /**
+     * 특정 가족의 가장 최근 니즈 인사이트 조회
+     */
+    Optional<NeedsInsight> findFirstByFamilyIdOrderByAnalyzedAtDesc(Long familyId);
+
     /**
      * 특정 가족의 특정 기간 니즈 인사이트 조회
      */
@@ -0,0 +1,53 @@
+package com.example.spring.job.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 백그라운드 작업 설정 Properties
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "job")
+public class JobProperties {
+
+    /**
+     * 이 인스턴스에서 작업 워커 실행 여부
+     */
+    private boolean workerEnabled = true;
+
+    /**
+     * 이 인스턴스에서 동시에 실행할 최대 작업 수
+     */
+    private int concurrency = 4;
+
+    /**
+     * 작업 임대 시간 (실행 중에는 주기적으로 연장)
+     */
+    private Duration leaseDuration = Duration.ofMinutes(5);
+
+    /**
+     * 작업당 최대 실행 시도 횟수
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * 첫 재시도 전 대기 시간 (이후 지수적으로 증가)
+     */
+    private Duration initialBackoff = Duration.ofSeconds(30);
+
+    /**
+     * 재시도 대기 시간 상한
+     */
+    private Duration maxBackoff = Duration.ofMinutes(30);
+
+    /**
+     * 분할 작업에서 한 번에 조회할 가족 수
+     */
+    private int fanOutPageSize = 500;
+}
@@ -0,0 +1,46 @@
+package com.example.spring.job.controller;
+
+import com.example.spring.common.dto.ApiResponse;
+import com.example.spring.job.dto.JobResponse;
+import com.example.spring.job.service.JobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 백그라운드 작업 상태 API (관리자용)
+ */
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+public class JobController {
+
+    private final JobService jobService;
+
+    /**
+     * 작업 상태 및 진행 상황 조회
+     * GET /api/jobs/{jobId}
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<JobResponse>> getJob(@PathVariable Long jobId) {
+        JobResponse response = jobService.getJob(jobId);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 최근 등록된 작업 목록 조회
+     * GET /api/jobs
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<JobResponse>>> getRecentJobs() {
+        List<JobResponse> response = jobService.getRecentJobs();
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
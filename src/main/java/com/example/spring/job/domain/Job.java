@@ -0,0 +1,228 @@
+package com.example.spring.job.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백그라운드 작업
+ * 워커가 임대(lease)하여 실행하며, 임대가 만료되면 다른 워커가 이어서 실행
+ */
+@Entity
+@Table(name = "jobs", indexes = {
+        @Index(name = "idx_jobs_status_available_at", columnList = "status,available_at"),
+        @Index(name = "idx_jobs_parent_id", columnList = "parent_id")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Job {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 작업 타입
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private JobType type;
+
+    /**
+     * 대상 가족 ID (전체 대상 작업이면 null)
+     */
+    @Column(name = "family_id")
+    private Long familyId;
+
+    /**
+     * 이 작업을 만든 상위 작업 ID
+     */
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    /**
+     * 작업 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobStatus status;
+
+    /**
+     * 우선순위 (높을수록 먼저 실행)
+     */
+    @Column(nullable = false)
+    private int priority;
+
+    /**
+     * 실행 시도 횟수
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * 최대 실행 시도 횟수
+     */
+    @Column(nullable = false)
+    private int maxAttempts;
+
+    /**
+     * 실행 가능 시각 (재시도 대기 시 미래 시각)
+     */
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    /**
+     * 임대한 워커 ID
+     */
+    @Column(length = 100)
+    private String leaseOwner;
+
+    /**
+     * 임대 만료 시각 (지나면 다른 워커가 다시 가져감)
+     */
+    @Column
+    private LocalDateTime leaseUntil;
+
+    /**
+     * 진행 위치 (분할 작업에서 마지막으로 처리한 가족 ID, 재시작 시 이어서 진행)
+     */
+    @Column(name = "progress_cursor")
+    private Long cursor;
+
+    /**
+     * 마지막 오류 메시지
+     */
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    /**
+     * 중복 방지 키 (대기/실행 중인 동안만 설정, 같은 키의 활성 작업은 하나만 존재)
+     */
+    @Column(unique = true, length = 100)
+    private String dedupeKey;
+
+    /**
+     * 실행 중에 들어온 후속 실행 요청의 실행 가능 시각 (요청이 없으면 null)
+     * 실행이 끝나면 이 시각에 같은 작업을 한 번 더 등록
+     */
+    @Column(name = "rerun_available_at")
+    private LocalDateTime rerunAvailableAt;
+
+    /**
+     * 최초 실행 시각
+     */
+    @Column
+    private LocalDateTime startedAt;
+
+    /**
+     * 종료 시각
+     */
+    @Column
+    private LocalDateTime finishedAt;
+
+    /**
+     * 생성 시각
+     */
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 수정 시각
+     */
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public Job(JobType type, Long familyId, Long parentId, int priority, int maxAttempts,
+               LocalDateTime availableAt, String dedupeKey) {
+        this.type = type;
+        this.familyId = familyId;
+        this.parentId = parentId;
+        this.status = JobStatus.PENDING;
+        this.priority = priority;
+        this.maxAttempts = maxAttempts;
+        this.availableAt = availableAt != null ? availableAt : LocalDateTime.now();
+        this.dedupeKey = dedupeKey;
+    }
+
+    /**
+     * 워커가 작업 임대
+     */
+    public void lease(String workerId, LocalDateTime leaseUntil) {
+        this.status = JobStatus.RUNNING;
+        this.leaseOwner = workerId;
+        this.leaseUntil = leaseUntil;
+        this.attempts++;
+        if (this.startedAt == null) {
+            this.startedAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * 해당 워커가 현재 임대 중인지 확인
+     */
+    public boolean isLeasedBy(String workerId) {
+        return this.status == JobStatus.RUNNING && workerId.equals(this.leaseOwner);
+    }
+
+    /**
+     * 진행 위치 기록
+     */
+    public void advanceCursor(Long cursor) {
+        this.cursor = cursor;
+    }
+
+    /**
+     * 완료 처리
+     */
+    public void succeed() {
+        finish(JobStatus.SUCCEEDED);
+    }
+
+    /**
+     * 재시도 예약 (availableAt 이후 다시 실행)
+     */
+    public void retryAt(LocalDateTime availableAt, String error) {
+        this.status = JobStatus.PENDING;
+        this.availableAt = availableAt;
+        // 재시도 실행이 후속 요청도 함께 반영하므로 따로 등록하지 않음
+        this.rerunAvailableAt = null;
+        this.lastError = error;
+        this.leaseOwner = null;
+        this.leaseUntil = null;
+    }
+
+    /**
+     * 실패 처리
+     */
+    public void fail(String error) {
+        this.lastError = error;
+        finish(JobStatus.FAILED);
+    }
+
+    /**
+     * 재시도 가능 횟수가 남았는지 확인
+     */
+    public boolean canRetry() {
+        return this.attempts < this.maxAttempts;
+    }
+
+    private void finish(JobStatus status) {
+        this.status = status;
+        this.finishedAt = LocalDateTime.now();
+        this.leaseOwner = null;
+        this.leaseUntil = null;
+        // 종료된 작업은 중복 방지 대상에서 제외하여 같은 작업을 다시 등록할 수 있게 함
+        this.dedupeKey = null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.spring.job.domain;
+
+/**
+ * 작업 상태
+ */
+public enum JobStatus {
+    /**
+     * 실행 대기 (availableAt 이후 실행 가능)
+     */
+    PENDING,
+
+    /**
+     * 워커가 임대(lease)하여 실행 중
+     */
+    RUNNING,
+
+    /**
+     * 완료
+     */
+    SUCCEEDED,
+
+    /**
+     * 재시도 횟수를 모두 사용했거나 재시도할 수 없는 오류로 실패
+     */
+    FAILED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
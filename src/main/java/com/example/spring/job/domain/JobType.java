@@ -0,0 +1,26 @@
+package com.example.spring.job.domain;
+
+/**
+ * 작업 타입
+ */
+public enum JobType {
+    /**
+     * 모든 가족의 분석 작업 생성 (가족별 FAMILY_ANALYSIS 작업으로 분할)
+     */
+    ANALYZE_ALL_FAMILIES,
+
+    /**
+     * 한 가족의 대화 분석 + 긴급 상황 감지
+     */
+    FAMILY_ANALYSIS,
+
+    /**
+     * 모든 가족의 주간 리포트 작업 생성 (가족별 FAMILY_REPORT 작업으로 분할)
+     */
+    GENERATE_ALL_REPORTS,
+
+    /**
+     * 한 가족의 주간 리포트 생성
+     */
+    FAMILY_REPORT
+}
@@ -0,0 +1,80 @@
+package com.example.spring.job.dto;
+
+import com.example.spring.job.domain.Job;
+import com.example.spring.job.domain.JobStatus;
+import com.example.spring.job.domain.JobType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 백그라운드 작업 응답
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record JobResponse(
+        Long id,
+        JobType type,
+        Long familyId,
+        Long parentId,
+        JobStatus status,
+        int priority,
+        int attempts,
+        int maxAttempts,
+        LocalDateTime availableAt,
+        String lastError,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        LocalDateTime createdAt,
+        Progress progress
+) {
+    /**
+     * 하위 작업 진행 상황 (분할 작업만 해당)
+     */
+    public record Progress(
+            long total,
+            long pending,
+            long running,
+            long succeeded,
+            long failed
+    ) {
+        public static Progress of(List<JobStatusCount> counts) {
+            long pending = 0;
+            long running = 0;
+            long succeeded = 0;
+            long failed = 0;
+            for (JobStatusCount count : counts) {
+                switch (count.status()) {
+                    case PENDING -> pending = count.count();
+                    case RUNNING -> running = count.count();
+                    case SUCCEEDED -> succeeded = count.count();
+                    case FAILED -> failed = count.count();
+                }
+            }
+            return new Progress(pending + running + succeeded + failed, pending, running, succeeded, failed);
+        }
+    }
+
+    public static JobResponse from(Job job) {
+        return from(job, null);
+    }
+
+    public static JobResponse from(Job job, Progress progress) {
+        return new JobResponse(
+                job.getId(),
+                job.getType(),
+                job.getFamilyId(),
+                job.getParentId(),
+                job.getStatus(),
+                job.getPriority(),
+                job.getAttempts(),
+                job.getMaxAttempts(),
+                job.getAvailableAt(),
+                job.getLastError(),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getCreatedAt(),
+                progress
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.spring.job.dto;
+
+import com.example.spring.job.domain.JobStatus;
+
+/**
+ * 상태별 작업 수
+ */
+public record JobStatusCount(
+        JobStatus status,
+        Long count
+) {
+}
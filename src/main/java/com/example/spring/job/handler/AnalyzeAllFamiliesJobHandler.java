@@ -0,0 +1,28 @@
+package com.example.spring.job.handler;
+
+import com.example.spring.job.domain.Job;
+import com.example.spring.job.domain.JobType;
+import com.example.spring.job.service.JobHandler;
+import com.example.spring.job.service.JobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전체 가족 분석 작업 → 가족별 분석 작업으로 분할
+ */
+@Component
+@RequiredArgsConstructor
+public class AnalyzeAllFamiliesJobHandler implements JobHandler {
+
+    private final JobService jobService;
+
+    @Override
+    public JobType type() {
+        return JobType.ANALYZE_ALL_FAMILIES;
+    }
+
+    @Override
+    public void handle(Job job) {
+        jobService.fanOutToFamilies(job, JobType.FAMILY_ANALYSIS);
+    }
+}
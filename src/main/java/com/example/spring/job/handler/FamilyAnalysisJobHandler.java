@@ -0,0 +1,49 @@
+package com.example.spring.job.handler;
+
+import com.example.spring.alert.service.EmergencyAlertService;
+import com.example.spring.analysis.service.AnalysisService;
+import com.example.spring.job.domain.Job;
+import com.example.spring.job.domain.JobType;
+import com.example.spring.job.service.JobHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가족별 분석 작업
+ * 최근 7일 중 새 메시지 분석 + 긴급 상황 감지 (매일 분석 스케줄러와 같은 처리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FamilyAnalysisJobHandler implements JobHandler {
+
+    private static final int ANALYSIS_DAYS = 7;
+
+    private final AnalysisService analysisService;
+    private final EmergencyAlertService emergencyAlertService;
+
+    @Override
+    public JobType type() {
+        return JobType.FAMILY_ANALYSIS;
+    }
+
+    @Override
+    public void handle(Job job) {
+        Long familyId = job.getFamilyId();
+
+        RuntimeException analysisFailure = null;
+        try {
+            analysisService.analyzeNewMessages(familyId, ANALYSIS_DAYS);
+        } catch (RuntimeException e) {
+            analysisFailure = e;
+        }
+
+        // 긴급 상황 감지는 분석 실패와 무관하게 실행
+        emergencyAlertService.detectEmergencies(familyId);
+
+        if (analysisFailure != null) {
+            throw analysisFailure;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.spring.job.handler;
+
+import com.example.spring.job.domain.Job;
+import com.example.spring.job.domain.JobType;
+import com.example.spring.job.service.JobHandler;
+import com.example.spring.report.domain.WeeklyReport;
+import com.example.spring.report.service.ReportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가족별 주간 리포트 생성 작업
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FamilyReportJobHandler implements JobHandler {
+
+    private final ReportService reportService;
+
+    @Override
+    public JobType type() {
+        return JobType.FAMILY_REPORT;
+    }
+
+    @Override
+    public void handle(Job job) {
+        try {
+            WeeklyReport report = reportService.generateWeeklyReport(job.getFamilyId());
+            log.info("Weekly report generated. reportId: {}, familyId: {}", report.getId(), job.getFamilyId());
+        } catch (IllegalStateException e) {
+            // 이미 생성되었거나 인사이트가 없는 경우 - 재시도 대상 아님
+            log.warn("Skipped report generation. familyId: {}, reason: {}", job.getFamilyId(), e.getMessage());
+        }
+    }
+}
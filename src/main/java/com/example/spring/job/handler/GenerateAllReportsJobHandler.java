@@ -0,0 +1,28 @@
+package com.example.spring.job.handler;
+
+import com.example.spring.job.domain.Job;
+import com.example.spring.job.domain.JobType;
+import com.example.spring.job.service.JobHandler;
+import com.example.spring.job.service.JobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전체 가족 주간 리포트 작업 → 가족별 리포트 작업으로 분할
+ */
+@Component
+@RequiredArgsConstructor
+public class GenerateAllReportsJobHandler implements JobHandler {
+
+    private final JobService jobService;
+
+    @Override
+    public JobType type() {
+        return JobType.GENERATE_ALL_REPORTS;
+    }
+
+    @Override
+    public void handle(Job job) {
+        jobService.fanOutToFamilies(job, JobType.FAMILY_REPORT);
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.spring.job.repository;
+
+import com.example.spring.job.domain.Job;
+import com.example.spring.job.dto.JobStatusCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 백그라운드 작업 Repository
+ */
+@Repository
+public interface JobRepository extends JpaRepository<Job, Long> {
+
+    /**
+     * 실행 가능한 작업을 잠그고 조회 (우선순위 → 실행 가능 시각 순)
+     * 대기 중이면서 실행 시각이 된 작업과, 임대가 만료된 실행 중 작업(워커 중단) 중 시도 횟수가 남은 작업이 대상
+     * 다른 워커가 잠근 행은 건너뛰므로 여러 워커가 동시에 호출해도 같은 작업을 가져가지 않음
+     */
+    @Query(value = "SELECT * FROM jobs " +
+            "WHERE (status = 'PENDING' AND available_at <= :now) " +
+            "OR (status = 'RUNNING' AND lease_until < :now AND attempts < max_attempts) " +
+            "ORDER BY priority DESC, available_at ASC, id ASC " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Job> lockClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 시도 횟수를 모두 쓴 뒤 임대가 만료된 실행 중 작업을 실패 처리
+     * 실행할 때마다 워커를 중단시키는 작업이 계속 다시 임대되지 않도록 함
+     */
+    @Modifying
+    @Query("UPDATE Job j SET j.status = com.example.spring.job.domain.JobStatus.FAILED, " +
+            "j.lastError = :error, " +
+            "j.finishedAt = :now, " +
+            "j.updatedAt = :now, " +
+            "j.leaseOwner = NULL, " +
+            "j.leaseUntil = NULL, " +
+            "j.dedupeKey = NULL " +
+            "WHERE j.status = 'RUNNING' " +
+            "AND j.leaseUntil < :now " +
+            "AND j.attempts >= j.maxAttempts")
+    int failExhaustedExpiredLeases(@Param("now") LocalDateTime now, @Param("error") String error);
+
+    /**
+     * 워커가 실행 중인 작업의 임대 연장
+     */
+    @Modifying
+    @Query("UPDATE Job j SET j.leaseUntil = :leaseUntil " +
+            "WHERE j.id IN :ids " +
+            "AND j.leaseOwner = :owner " +
+            "AND j.status = 'RUNNING'")
+    int renewLeases(
+            @Param("ids") Collection<Long> ids,
+            @Param("owner") String owner,
+            @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    /**
+     * 대기 중인 작업의 실행 시각을 뒤로 미룸 (디바운스)
+     * 이미 임대되었거나, notCreatedBefore 이전에 등록되어 최대 지연 시간을 넘기게 되는 작업은 미루지 않음
+     */
+    @Modifying
+    @Query("UPDATE Job j SET j.availableAt = :availableAt " +
+            "WHERE j.dedupeKey = :dedupeKey " +
+            "AND j.status = 'PENDING' " +
+            "AND j.availableAt < :availableAt " +
+            "AND j.createdAt >= :notCreatedBefore")
+    int postponePending(
+            @Param("dedupeKey") String dedupeKey,
+            @Param("availableAt") LocalDateTime availableAt,
+            @Param("notCreatedBefore") LocalDateTime notCreatedBefore
+    );
+
+    /**
+     * 대기 중인 작업의 우선순위를 올리고 실행 시각을 앞당김
+     * 기존 값이 더 높거나 더 이르면 그대로 유지 (디바운스로 미뤄진 작업도 바로 실행 가능해짐)
+     */
+    @Modifying
+    @Query("UPDATE Job j SET " +
+            "j.priority = CASE WHEN j.priority < :priority THEN :priority ELSE j.priority END, " +
+            "j.availableAt = CASE WHEN j.availableAt > :availableAt THEN :availableAt ELSE j.availableAt END " +
+            "WHERE j.dedupeKey = :dedupeKey " +
+            "AND j.status = 'PENDING' " +
+            "AND (j.priority < :priority OR j.availableAt > :availableAt)")
+    int expeditePending(
+            @Param("dedupeKey") String dedupeKey,
+            @Param("priority") int priority,
+            @Param("availableAt") LocalDateTime availableAt
+    );
+
+    /**
+     * 실행 중인 작업에 후속 실행 요청 (실행이 끝나면 availableAt에 한 번 더 실행)
+     * 실행 중이 아니면 0 반환
+     */
+    @Modifying
+    @Query("UPDATE Job j SET j.rerunAvailableAt = :availableAt " +
+            "WHERE j.dedupeKey = :dedupeKey " +
+            "AND j.status = 'RUNNING' " +
+            "AND (j.rerunAvailableAt IS NULL OR j.rerunAvailableAt < :availableAt)")
+    int requestRerun(
+            @Param("dedupeKey") String dedupeKey,
+            @Param("availableAt") LocalDateTime availableAt
+    );
+
+    /**
+     * 중복 방지 키로 활성 작업 조회
+     */
+    Optional<Job> findByDedupeKey(String dedupeKey);
+
+    /**
+     * 하위 작업의 상태별 개수
+     */
+    @Query("SELECT new com.example.spring.job.dto.JobStatusCount(j.status, COUNT(j)) " +
+            "FROM Job j " +
+            "WHERE j.parentId = :parentId " +
+            "GROUP BY j.status")
+    List<JobStatusCount> countByParentIdGroupByStatus(@Param("parentId") Long parentId);
+
+    /**
+     * 최근 생성된 상위 작업 조회
+     */
+    List<Job> findTop50ByParentIdIsNullOrderByCreatedAtDesc();
+}
@@ -0,0 +1,21 @@
+package com.example.spring.job.service;
+
+import com.example.spring.job.domain.Job;
+import com.example.spring.job.domain.JobType;
+
+/**
+ * 작업 타입별 실행기
+ * 예외를 던지면 작업 실패로 처리되며, 재시도 가능한 오류는 백오프 후 다시 실행됨
+ */
+public interface JobHandler {
+
+    /**
+     * 처리할 작업 타입
+     */
+    JobType type();
+
+    /**
+     * 작업 실행
+     */
+    void handle(Job job);
+}
@@ -0,0 +1,314 @@
+package com.example.spring.job.service;
+
+import com.example.spring.analysis.dto.FamilyRisk;
+import com.example.spring.analysis.service.FamilyRiskService;
+import com.example.spring.family.repository.FamilyRepository;
+import com.example.spring.job.config.JobProperties;
+import com.example.spring.job.domain.Job;
+import com.example.spring.job.domain.JobType;
+import com.example.spring.job.dto.JobResponse;
+import com.example.spring.job.dto.JobStatusCount;
+import com.example.spring.job.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 백그라운드 작업 서비스
+ * DB 작업 테이블을 큐로 사용하여 등록/임대/완료/재시도를 관리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobService {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private static final String LEASE_EXHAUSTED_ERROR = "LeaseExpired: 남은 시도 횟수 없이 임대가 만료되었습니다 (워커 중단 또는 응답 없음)";
+
+    private final JobRepository jobRepository;
+    private final FamilyRepository familyRepository;
+    private final JobProperties jobProperties;
+    private final FamilyRiskService familyRiskService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 작업 등록 (API 요청용)
+     * 같은 작업이 이미 대기/실행 중이면 새로 등록하지 않고 기존 작업 반환
+     */
+    public JobResponse submit(JobType type, Long familyId) {
+        return JobResponse.from(enqueue(type, familyId, null, 0));
+    }
+
+    /**
+     * 작업 등록
+     * 같은 타입 + 가족의 활성 작업은 하나만 존재 (중복 방지 키의 유니크 제약으로 보장)
+     * 이미 대기 중이면 우선순위를 priority 이상으로 올리고 바로 실행 가능하도록 앞당김
+     */
+    public Job enqueue(JobType type, Long familyId, Long parentId, int priority) {
+        String dedupeKey = dedupeKeyOf(type, familyId);
+        LocalDateTime now = LocalDateTime.now();
+
+        Integer expedited = transactionTemplate.execute(status ->
+                jobRepository.expeditePending(dedupeKey, priority, now));
+        if (expedited != null && expedited > 0) {
+            log.info("Pending job expedited. type: {}, familyId: {}, priority: {}", type, familyId, priority);
+        }
+
+        Job existing = jobRepository.findByDedupeKey(dedupeKey).orElse(null);
+        if (existing != null) {
+            log.info("Job already queued. jobId: {}, type: {}, familyId: {}", existing.getId(), type, familyId);
+            return existing;
+        }
+
+        return create(type, familyId, parentId, priority, now, dedupeKey);
+    }
+
+    /**
+     * 지연 실행 작업 등록 (디바운스)
+     * 같은 작업이 대기 중이면 새로 등록하지 않고 실행 시각을 delay 뒤로 미룸 (연속된 요청을 한 번의 실행으로 합침)
+     * 요청이 계속 들어와도 최초 등록 후 maxDelay가 지나면 더 이상 미루지 않음
+     * 이미 실행 중이면 실행이 끝난 뒤 delay 시점에 한 번 더 실행되도록 후속 실행을 요청 (실행 중 요청은 하나로 합쳐짐)
+     *
+     * @param delay 마지막 요청 후 실행까지 대기 시간
+     * @param maxDelay 최초 등록 후 최대 지연 시간
+     */
+    public Job enqueueDebounced(JobType type, Long familyId, Duration delay, Duration maxDelay) {
+        String dedupeKey = dedupeKeyOf(type, familyId);
+        LocalDateTime availableAt = LocalDateTime.now().plus(delay);
+
+        Integer postponed = transactionTemplate.execute(status ->
+                jobRepository.postponePending(dedupeKey, availableAt, availableAt.minus(maxDelay)));
+        if (postponed != null && postponed > 0) {
+            log.info("Debounced job postponed. type: {}, familyId: {}, availableAt: {}", type, familyId, availableAt);
+            return jobRepository.findByDedupeKey(dedupeKey).orElseThrow();
+        }
+
+        Integer rerunRequested = transactionTemplate.execute(status ->
+                jobRepository.requestRerun(dedupeKey, availableAt));
+        if (rerunRequested != null && rerunRequested > 0) {
+            log.info("Job is running. Follow-up run requested. type: {}, familyId: {}, availableAt: {}",
+                    type, familyId, availableAt);
+            return jobRepository.findByDedupeKey(dedupeKey).orElseThrow();
+        }
+
+        Job existing = jobRepository.findByDedupeKey(dedupeKey).orElse(null);
+        if (existing != null) {
+            log.info("Job already queued. jobId: {}, type: {}, familyId: {}, status: {}",
+                    existing.getId(), type, familyId, existing.getStatus());
+            return existing;
+        }
+
+        return create(type, familyId, null, 0, availableAt, dedupeKey);
+    }
+
+    private Job create(JobType type, Long familyId, Long parentId, int priority,
+                       LocalDateTime availableAt, String dedupeKey) {
+        try {
+            Job job = transactionTemplate.execute(status -> jobRepository.saveAndFlush(Job.builder()
+                    .type(type)
+                    .familyId(familyId)
+                    .parentId(parentId)
+                    .priority(priority)
+                    .maxAttempts(jobProperties.getMaxAttempts())
+                    .availableAt(availableAt)
+                    .dedupeKey(dedupeKey)
+                    .build()));
+            log.info("Job enqueued. jobId: {}, type: {}, familyId: {}, availableAt: {}",
+                    job.getId(), type, familyId, availableAt);
+            return job;
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 작업이 등록된 경우 먼저 등록된 작업 반환
+            return jobRepository.findByDedupeKey(dedupeKey).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * 실행 가능한 작업을 최대 limit개 임대
+     * 시도 횟수를 모두 쓴 채 임대가 만료된 작업은 다시 임대하지 않고 실패 처리
+     */
+    public List<Job> claim(String workerId, int limit) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            int exhausted = jobRepository.failExhaustedExpiredLeases(now, LEASE_EXHAUSTED_ERROR);
+            if (exhausted > 0) {
+                log.error("Failed jobs whose lease expired with no attempts left. count: {}", exhausted);
+            }
+
+            List<Job> jobs = jobRepository.lockClaimable(now, limit);
+            jobs.forEach(job -> {
+                if (job.getLeaseOwner() != null) {
+                    log.warn("Reclaiming job with expired lease. jobId: {}, previousOwner: {}",
+                            job.getId(), job.getLeaseOwner());
+                }
+                job.lease(workerId, now.plus(jobProperties.getLeaseDuration()));
+            });
+            return jobs;
+        });
+    }
+
+    /**
+     * 실행 중인 작업의 임대 연장
+     */
+    public void renewLeases(String workerId, Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> jobRepository.renewLeases(
+                jobIds, workerId, LocalDateTime.now().plus(jobProperties.getLeaseDuration())));
+    }
+
+    /**
+     * 작업 완료 처리 (임대를 잃은 경우 무시)
+     * 실행 중에 후속 실행 요청이 있었으면 같은 작업을 다시 등록
+     */
+    public void complete(Long jobId, String workerId) {
+        Job finished = transactionTemplate.execute(status -> jobRepository.findById(jobId)
+                .filter(job -> isStillLeased(job, workerId))
+                .map(job -> {
+                    job.succeed();
+                    return job;
+                })
+                .orElse(null));
+        enqueueRerun(finished);
+    }
+
+    /**
+     * 작업 실패 처리
+     * 재시도 가능한 오류이고 시도 횟수가 남았으면 지수 백오프 후 다시 실행
+     */
+    public void fail(Long jobId, String workerId, Throwable error) {
+        Job failed = transactionTemplate.execute(status -> jobRepository.findById(jobId)
+                .filter(job -> isStillLeased(job, workerId))
+                .map(job -> {
+                    String message = truncate(error.getClass().getSimpleName() + ": " + error.getMessage());
+                    if (isRetryable(error) && job.canRetry()) {
+                        LocalDateTime retryAt = LocalDateTime.now().plus(backoff(job.getAttempts()));
+                        log.warn("Job failed. Retrying at {}. jobId: {}, attempts: {}/{}",
+                                retryAt, jobId, job.getAttempts(), job.getMaxAttempts());
+                        job.retryAt(retryAt, message);
+                        return null;
+                    }
+                    log.error("Job failed permanently. jobId: {}, attempts: {}/{}",
+                            jobId, job.getAttempts(), job.getMaxAttempts());
+                    job.fail(message);
+                    return job;
+                })
+                .orElse(null));
+        enqueueRerun(failed);
+    }
+
+    /**
+     * 실행 중에 요청된 후속 실행 등록
+     * 종료된 작업이 중복 방지 키를 반환한 뒤에 등록해야 하므로 종료 처리 트랜잭션이 끝난 뒤 호출
+     */
+    private void enqueueRerun(Job finished) {
+        if (finished == null || finished.getRerunAvailableAt() == null) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime availableAt = finished.getRerunAvailableAt().isAfter(now) ? finished.getRerunAvailableAt() : now;
+        log.info("Enqueueing follow-up run requested while job was running. jobId: {}, type: {}, familyId: {}",
+                finished.getId(), finished.getType(), finished.getFamilyId());
+        create(finished.getType(), finished.getFamilyId(), null, finished.getPriority(), availableAt,
+                dedupeKeyOf(finished.getType(), finished.getFamilyId()));
+    }
+
+    /**
+     * 분할 작업 실행: 모든 가족에 대해 하위 작업 등록
+     * 페이지마다 진행 위치를 저장하므로 중단되어도 다음 실행에서 이어서 진행
+     */
+    public void fanOutToFamilies(Job parent, JobType childType) {
+        Long cursor = parent.getCursor() != null ? parent.getCursor() : 0L;
+        int pageSize = jobProperties.getFanOutPageSize();
+        int enqueued = 0;
+
+        List<Long> familyIds;
+        do {
+            familyIds = familyRepository.findIdsAfter(cursor, PageRequest.of(0, pageSize));
+            // 위험 점수가 높은 가족의 작업이 먼저 실행되도록 점수를 우선순위로 사용
+            for (FamilyRisk risk : familyRiskService.assess(familyIds)) {
+                enqueue(childType, risk.familyId(), parent.getId(), risk.score());
+                enqueued++;
+            }
+
+            if (!familyIds.isEmpty()) {
+                cursor = familyIds.get(familyIds.size() - 1);
+                Long pageCursor = cursor;
+                transactionTemplate.executeWithoutResult(status -> jobRepository.findById(parent.getId())
+                        .ifPresent(job -> job.advanceCursor(pageCursor)));
+            }
+        } while (familyIds.size() == pageSize);
+
+        log.info("Fan-out completed. jobId: {}, childType: {}, enqueued: {}", parent.getId(), childType, enqueued);
+    }
+
+    /**
+     * 작업 조회 (하위 작업 진행 상황 포함)
+     */
+    @Transactional(readOnly = true)
+    public JobResponse getJob(Long jobId) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("작업을 찾을 수 없습니다. jobId: " + jobId));
+
+        List<JobStatusCount> counts = jobRepository.countByParentIdGroupByStatus(jobId);
+        return JobResponse.from(job, counts.isEmpty() ? null : JobResponse.Progress.of(counts));
+    }
+
+    /**
+     * 최근 등록된 작업 조회 (상위 작업만)
+     */
+    @Transactional(readOnly = true)
+    public List<JobResponse> getRecentJobs() {
+        return jobRepository.findTop50ByParentIdIsNullOrderByCreatedAtDesc().stream()
+                .map(JobResponse::from)
+                .toList();
+    }
+
+    private boolean isStillLeased(Job job, String workerId) {
+        if (!job.isLeasedBy(workerId)) {
+            log.warn("Job lease was lost. Ignoring result. jobId: {}, workerId: {}, currentOwner: {}",
+                    job.getId(), workerId, job.getLeaseOwner());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 잘못된 요청(대상 없음 등)은 다시 실행해도 실패하므로 재시도하지 않음
+     */
+    private boolean isRetryable(Throwable error) {
+        return !(error instanceof IllegalArgumentException);
+    }
+
+    /**
+     * 지수 백오프 + 지터 (최대 대기 시간 제한)
+     */
+    private Duration backoff(int attempts) {
+        long initialMillis = jobProperties.getInitialBackoff().toMillis();
+        long maxMillis = jobProperties.getMaxBackoff().toMillis();
+        long exponential = initialMillis << Math.min(Math.max(attempts - 1, 0), 20);
+        long capped = Math.min(exponential, maxMillis);
+        long jitter = ThreadLocalRandom.current().nextLong(capped / 5 + 1);
+        return Duration.ofMillis(capped - capped / 10 + jitter);
+    }
+
+    private String dedupeKeyOf(JobType type, Long familyId) {
+        return familyId != null ? type + ":" + familyId : type.name();
+    }
+
+    private String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
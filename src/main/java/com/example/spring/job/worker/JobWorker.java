@@ -0,0 +1,134 @@
+package com.example.spring.job.worker;
+
+import com.example.spring.job.config.JobProperties;
+import com.example.spring.job.domain.Job;
+import com.example.spring.job.domain.JobType;
+import com.example.spring.job.service.JobHandler;
+import com.example.spring.job.service.JobService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 백그라운드 작업 워커
+ * 주기적으로 실행 가능한 작업을 임대하여 가상 스레드에서 실행하고, 실행 중인 작업의 임대를 연장
+ * 동시에 실행하는 작업 수는 job.concurrency 로 제한
+ */
+@Slf4j
+@Component
+public class JobWorker {
+
+    private final JobService jobService;
+    private final JobProperties jobProperties;
+    private final Map<JobType, JobHandler> handlers = new EnumMap<>(JobType.class);
+
+    private final String workerId;
+    private final Semaphore slots;
+    private final Set<Long> runningJobIds = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public JobWorker(JobService jobService, JobProperties jobProperties, List<JobHandler> handlers) {
+        this.jobService = jobService;
+        this.jobProperties = jobProperties;
+        handlers.forEach(handler -> this.handlers.put(handler.type(), handler));
+        this.workerId = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+        this.slots = new Semaphore(jobProperties.getConcurrency());
+    }
+
+    /**
+     * 빈 실행 슬롯만큼 작업을 임대하여 실행
+     */
+    @Scheduled(fixedDelayString = "${job.poll-interval:2s}", initialDelayString = "${job.poll-interval:2s}")
+    public void poll() {
+        if (!jobProperties.isWorkerEnabled()) {
+            return;
+        }
+
+        int free = slots.availablePermits();
+        if (free == 0) {
+            return;
+        }
+
+        List<Job> jobs;
+        try {
+            jobs = jobService.claim(workerId, free);
+        } catch (Exception e) {
+            log.error("Failed to claim jobs. workerId: {}", workerId, e);
+            return;
+        }
+
+        for (Job job : jobs) {
+            slots.acquireUninterruptibly();
+            runningJobIds.add(job.getId());
+            executor.submit(() -> run(job));
+        }
+    }
+
+    /**
+     * 실행 중인 작업의 임대 연장 (임대 시간보다 짧은 주기로 실행)
+     */
+    @Scheduled(fixedDelayString = "${job.heartbeat-interval:1m}")
+    public void heartbeat() {
+        try {
+            jobService.renewLeases(workerId, Set.copyOf(runningJobIds));
+        } catch (Exception e) {
+            log.error("Failed to renew job leases. workerId: {}", workerId, e);
+        }
+    }
+
+    private void run(Job job) {
+        long startedAt = System.nanoTime();
+        try {
+            JobHandler handler = handlers.get(job.getType());
+            if (handler == null) {
+                throw new IllegalArgumentException("작업 실행기가 없습니다. type: " + job.getType());
+            }
+
+            log.info("Job started. jobId: {}, type: {}, familyId: {}, attempt: {}",
+                    job.getId(), job.getType(), job.getFamilyId(), job.getAttempts());
+            handler.handle(job);
+            jobService.complete(job.getId(), workerId);
+            log.info("Job succeeded. jobId: {}, type: {}, latencyMs: {}",
+                    job.getId(), job.getType(), (System.nanoTime() - startedAt) / 1_000_000);
+
+        } catch (Exception e) {
+            log.error("Job failed. jobId: {}, type: {}, familyId: {}", job.getId(), job.getType(), job.getFamilyId(), e);
+            try {
+                jobService.fail(job.getId(), workerId, e);
+            } catch (Exception recordError) {
+                // 기록에 실패해도 임대가 만료되면 다시 실행됨
+                log.error("Failed to record job failure. jobId: {}", job.getId(), recordError);
+            }
+        } finally {
+            runningJobIds.remove(job.getId());
+            slots.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 실행 중인 작업은 임대가 만료된 뒤 다른 인스턴스(또는 재시작 후)가 이어서 실행
+        executor.shutdownNow();
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
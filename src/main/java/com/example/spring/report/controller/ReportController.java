@@ -1,14 +1,20 @@
 package com.example.spring.report.controller;
 
 import com.example.spring.common.dto.ApiResponse;
+import com.example.spring.job.domain.JobType;
+import com.example.spring.job.dto.JobResponse;
+import com.example.spring.job.service.JobService;
 import com.example.spring.report.domain.WeeklyReport;
 import com.example.spring.report.dto.WeeklyReportResponse;
-import com.example.spring.report.scheduler.ReportScheduler;
 import com.example.spring.report.service.ReportService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -22,7 +28,7 @@ import java.util.List;
 public class ReportController {
 
     private final ReportService reportService;
-    private final ReportScheduler reportScheduler;
+    private final JobService jobService;
 
     /**
      * 특정 가족의 주간 리포트 수동 생성
@@ -40,6 +46,28 @@ public class ReportController {
         return ResponseEntity.ok(ApiResponse.success(response, "주간 리포트가 생성되었습니다."));
     }
 
+    /**
+     * 특정 가족의 주간 리포트 스트리밍 생성 (SSE)
+     * POST /api/reports/generate/stream?familyId={familyId}
+     * 전체 요약문 조각을 summary 이벤트로, 저장된 리포트를 report 이벤트로 전송 (실패 시 error 이벤트)
+     */
+    @PostMapping(value = "/generate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamReport(@RequestParam Long familyId) {
+
+        log.info("Streaming report generation requested. familyId: {}", familyId);
+
+        return reportService.streamWeeklyReport(familyId)
+                .map(event -> ServerSentEvent.builder(event.data())
+                        .event(event.type())
+                        .build())
+                .onErrorResume(e -> {
+                    log.error("Failed to stream weekly report. familyId: {}", familyId, e);
+                    return Mono.just(ServerSentEvent.builder((Object) ApiResponse.error(e.getMessage()))
+                            .event("error")
+                            .build());
+                });
+    }
+
     /**
      * 특정 가족의 최신 주간 리포트 조회
      * GET /api/reports/latest?familyId={familyId}
@@ -48,8 +76,7 @@ public class ReportController {
     public ResponseEntity<ApiResponse<WeeklyReportResponse>> getLatestReport(
             @RequestParam Long familyId) {
 
-        WeeklyReport report = reportService.getLatestReport(familyId);
-        WeeklyReportResponse response = WeeklyReportResponse.from(report);
+        WeeklyReportResponse response = reportService.getLatestReport(familyId);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -62,10 +89,7 @@ public class ReportController {
     public ResponseEntity<ApiResponse<List<WeeklyReportResponse>>> getAllReports(
             @RequestParam Long familyId) {
 
-        List<WeeklyReport> reports = reportService.getAllReports(familyId);
-        List<WeeklyReportResponse> response = reports.stream()
-                .map(WeeklyReportResponse::from)
-                .toList();
+        List<WeeklyReportResponse> response = reportService.getAllReports(familyId);
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -73,22 +97,17 @@ public class ReportController {
     /**
      * 모든 가족의 주간 리포트 수동 생성 (관리자용)
      * POST /api/reports/generate-all
+     * 작업 큐에 등록되며, 이미 대기/실행 중인 전체 생성이 있으면 그 작업을 반환
+     * 진행 상황은 GET /api/jobs/{jobId} 로 확인
      */
     @PostMapping("/generate-all")
-    public ResponseEntity<ApiResponse<Void>> generateAllReports() {
+    public ResponseEntity<ApiResponse<JobResponse>> generateAllReports() {
 
         log.info("Manual report generation for all families requested");
 
-        // 백그라운드에서 실행
-        new Thread(() -> {
-            try {
-                reportScheduler.generateWeeklyReports();
-            } catch (Exception e) {
-                log.error("Failed to generate weekly reports manually", e);
-            }
-        }).start();
-
-        return ResponseEntity.ok(ApiResponse.success(null,
-                "모든 가족의 주간 리포트 생성이 백그라운드에서 실행 중입니다."));
+        JobResponse job = jobService.submit(JobType.GENERATE_ALL_REPORTS, null);
+
+        return ResponseEntity.ok(ApiResponse.success(job,
+                "모든 가족의 주간 리포트 생성 작업이 등록되었습니다."));
     }
 }
@@ -0,0 +1,22 @@
+package com.example.spring.report.dto;
+
+/**
+ * 주간 리포트 스트리밍 생성 이벤트
+ * - summary: 생성 중인 전체 요약문 조각
+ * - report: 저장이 끝난 최종 리포트
+ */
+public record ReportStreamEvent(
+        String type,
+        Object data
+) {
+    public static final String SUMMARY = "summary";
+    public static final String REPORT = "report";
+
+    public static ReportStreamEvent summary(String chunk) {
+        return new ReportStreamEvent(SUMMARY, chunk);
+    }
+
+    public static ReportStreamEvent report(WeeklyReportResponse report) {
+        return new ReportStreamEvent(REPORT, report);
+    }
+}
@@ -1,63 +1,120 @@
 package com.example.spring.report.scheduler;
 
-import com.example.spring.family.domain.Family;
-import com.example.spring.family.repository.FamilyRepository;
 import com.example.spring.report.domain.WeeklyReport;
 import com.example.spring.report.service.ReportService;
+import com.example.spring.schedule.service.ShardedFamilyRunner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 주간 리포트 생성 스케줄러
  * 매주 금요일 오후 3시에 실행
+ * 여러 노드에서 실행 시 가족 샤드를 나누어 처리
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ReportScheduler {
 
+    private static final String WEEKLY_REPORT_TASK = "weekly-report";
+
     private final ReportService reportService;
-    private final FamilyRepository familyRepository;
+    private final ShardedFamilyRunner shardedFamilyRunner;
+
+    private final AtomicBoolean running = new AtomicBoolean();
 
     /**
      * 매주 금요일 오후 3시에 실행
      * 모든 가족 그룹의 주간 리포트 생성
+     * 모든 노드에서 실행되며, 각 노드는 임대한 샤드의 가족만 처리
      */
     @Scheduled(cron = "0 0 15 * * FRI")
     public void generateWeeklyReports() {
         log.info("Starting weekly report generation scheduler");
+        generateWeeklyReportsOnce();
+    }
 
-        List<Family> families = familyRepository.findAll();
+    /**
+     * 이번 주 실행 중 처리하던 노드가 중단되어 남은 샤드가 있으면 이어서 처리
+     */
+    @Scheduled(fixedDelayString = "${schedule.resume-interval:5m}", initialDelayString = "${schedule.resume-interval:5m}")
+    public void resumeWeeklyReports() {
+        if (running.get() || !shardedFamilyRunner.hasClaimableShards(WEEKLY_REPORT_TASK, weekRunKey())) {
+            return;
+        }
+        log.info("Resuming weekly report generation with unclaimed shards");
+        generateWeeklyReportsOnce();
+    }
 
-        log.info("Found {} families to generate reports", families.size());
+    private void generateWeeklyReportsOnce() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Weekly report generation is already running on this node");
+            return;
+        }
 
-        int successCount = 0;
-        int failCount = 0;
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
 
-        for (Family family : families) {
-            try {
-                WeeklyReport report = reportService.generateWeeklyReport(family.getId());
-                log.info("Weekly report generated. reportId: {}, familyId: {}", report.getId(), family.getId());
-                successCount++;
+        try {
+            shardedFamilyRunner.run(WEEKLY_REPORT_TASK, weekRunKey(), (familyIds, leaseHeld) -> {
+                for (Long familyId : familyIds) {
+                    if (!leaseHeld.getAsBoolean()) {
+                        // 샤드를 가져간 노드가 처리하므로 남은 가족은 건너뜀
+                        break;
+                    }
+                    if (generateReport(familyId)) {
+                        successCount.incrementAndGet();
+                    } else {
+                        failCount.incrementAndGet();
+                    }
+                }
+            });
+        } finally {
+            running.set(false);
+        }
 
-                // TODO: 알림톡 전송 (추후 구현)
-                // notificationService.sendWeeklyReportNotification(report);
+        log.info("Weekly report generation completed on this node. success: {}, failed: {}",
+                successCount.get(), failCount.get());
+    }
+
+    /**
+     * 한 가족의 주간 리포트 생성
+     *
+     * @return 실패했으면 false (건너뛴 경우는 true)
+     */
+    private boolean generateReport(Long familyId) {
+        try {
+            WeeklyReport report = reportService.generateWeeklyReport(familyId);
+            log.info("Weekly report generated. reportId: {}, familyId: {}", report.getId(), familyId);
 
-            } catch (IllegalStateException e) {
-                // 이미 생성되었거나 인사이트가 없는 경우
-                log.warn("Skipped report generation. familyId: {}, reason: {}", family.getId(), e.getMessage());
+            // TODO: 알림톡 전송 (추후 구현)
+            // notificationService.sendWeeklyReportNotification(report);
+            return true;
 
-            } catch (Exception e) {
-                log.error("Failed to generate weekly report. familyId: {}", family.getId(), e);
-                failCount++;
-            }
+        } catch (IllegalStateException e) {
+            // 이미 생성되었거나 인사이트가 없는 경우
+            log.warn("Skipped report generation. familyId: {}, reason: {}", familyId, e.getMessage());
+            return true;
+
+        } catch (Exception e) {
+            log.error("Failed to generate weekly report. familyId: {}", familyId, e);
+            return false;
         }
+    }
 
-        log.info("Weekly report generation completed. success: {}, failed: {}", successCount, failCount);
+    /**
+     * 실행 식별자: 이번 주 월요일 날짜
+     */
+    private String weekRunKey() {
+        return LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).toString();
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.example.spring.report.service;
 
 import com.example.spring.ai.gemini.service.GeminiClient;
+import com.example.spring.common.support.SingleFlight;
 import com.example.spring.family.domain.Family;
 import com.example.spring.family.repository.FamilyRepository;
 import com.example.spring.insight.domain.EmotionInsight;
@@ -11,6 +12,8 @@ import com.example.spring.insight.repository.HealthInsightRepository;
 import com.example.spring.insight.repository.NeedsInsightRepository;
 import com.example.spring.report.domain.ConversationTip;
 import com.example.spring.report.domain.WeeklyReport;
+import com.example.spring.report.dto.ReportStreamEvent;
+import com.example.spring.report.dto.WeeklyReportResponse;
 import com.example.spring.report.repository.WeeklyReportRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -18,9 +21,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -38,14 +47,99 @@ public class ReportService {
     private final EmotionInsightRepository emotionInsightRepository;
     private final NeedsInsightRepository needsInsightRepository;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 같은 가족에 대해 동시에 들어온 리포트 생성 요청을 하나로 병합
+     */
+    private final SingleFlight<Long, WeeklyReport> reportGenerationFlight = new SingleFlight<>();
 
     /**
      * 특정 가족의 주간 리포트 생성
+     * 같은 가족의 리포트 생성이 이미 진행 중이면 새로 실행하지 않고 그 결과를 공유
      */
-    @Transactional
     public WeeklyReport generateWeeklyReport(Long familyId) {
+        return reportGenerationFlight.execute(familyId, () -> doGenerateWeeklyReport(familyId));
+    }
+
+    /**
+     * 주간 리포트 생성 실행
+     * Gemini 호출 동안 DB 커넥션을 점유하지 않도록 조회 → AI 생성 → 저장 단계로 분리
+     */
+    private WeeklyReport doGenerateWeeklyReport(Long familyId) {
         log.info("Generating weekly report for family. familyId: {}", familyId);
 
+        // 1. 조회 단계
+        ReportDraft draft = prepareReport(familyId);
+
+        // 2. AI 생성 단계 (트랜잭션 없음) - 전체 요약 + 대화 치트키를 동시에 생성
+        Tuple2<String, List<TipDto>> aiResult = Mono.zip(
+                generateOverallSummary(draft),
+                generateConversationTips(draft)
+        ).block();
+
+        // 3. 저장 단계
+        return saveReport(draft, aiResult.getT1(), aiResult.getT2());
+    }
+
+    /**
+     * 주간 리포트 스트리밍 생성
+     * 전체 요약문을 생성되는 대로 summary 이벤트로 보내고, 대화 치트키 생성과 저장이 끝나면 report 이벤트를 보냄
+     * (대화 치트키는 요약문 스트리밍과 동시에 생성)
+     * 같은 가족의 리포트 생성이 이미 진행 중이면 새로 생성하지 않고 거절하며,
+     * 스트리밍 중에 들어온 일반 생성 요청은 이 스트리밍 결과를 공유
+     */
+    public Flux<ReportStreamEvent> streamWeeklyReport(Long familyId) {
+        return Flux.defer(() -> {
+            CompletableFuture<WeeklyReport> generation = new CompletableFuture<>();
+            if (!reportGenerationFlight.register(familyId, generation)) {
+                log.warn("Weekly report generation already in progress. Rejecting stream. familyId: {}", familyId);
+                return Flux.error(new IllegalStateException("리포트를 이미 생성 중입니다. 잠시 후 다시 조회해주세요."));
+            }
+
+            return doStreamWeeklyReport(familyId, generation)
+                    .doOnError(generation::completeExceptionally)
+                    // 저장 전에 취소되는 등 결과 없이 끝나면 기다리던 요청도 실패로 끝내고 키를 반환 (이미 완료됐으면 무시됨)
+                    .doFinally(signal -> generation.completeExceptionally(
+                            new IllegalStateException("리포트 스트리밍 생성이 중단되었습니다.")));
+        });
+    }
+
+    /**
+     * 주간 리포트 스트리밍 생성 실행
+     * 저장이 끝나면 generation을 완료하여 기다리던 생성 요청에 결과를 전달
+     */
+    private Flux<ReportStreamEvent> doStreamWeeklyReport(Long familyId, CompletableFuture<WeeklyReport> generation) {
+        return Mono.fromCallable(() -> {
+                    log.info("Streaming weekly report for family. familyId: {}", familyId);
+                    return prepareReport(familyId);
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(draft -> {
+                    StringBuilder summary = new StringBuilder();
+                    Mono<List<TipDto>> tips = generateConversationTips(draft).cache();
+
+                    Flux<ReportStreamEvent> summaryEvents = Flux.merge(
+                            geminiClient.generateStream(buildOverallSummaryPrompt(draft))
+                                    .doOnNext(summary::append)
+                                    .map(ReportStreamEvent::summary),
+                            tips.then(Mono.empty())
+                    );
+
+                    Mono<ReportStreamEvent> reportEvent = tips
+                            .publishOn(Schedulers.boundedElastic())
+                            .map(tipDtos -> saveReport(draft, summary.toString(), tipDtos))
+                            .doOnNext(generation::complete)
+                            .map(report -> ReportStreamEvent.report(WeeklyReportResponse.from(report)));
+
+                    return summaryEvents.concatWith(reportEvent);
+                });
+    }
+
+    /**
+     * 리포트 생성에 필요한 데이터 조회 및 인사이트 요약
+     */
+    private ReportDraft prepareReport(Long familyId) {
         Family family = familyRepository.findById(familyId)
                 .orElseThrow(() -> new IllegalArgumentException("가족 그룹을 찾을 수 없습니다. familyId: " + familyId));
 
@@ -71,30 +165,48 @@ public class ReportService {
         }
 
         // 각 인사이트 요약 생성
-        String healthSummary = buildHealthSummary(healthInsights);
-        String emotionSummary = buildEmotionSummary(emotionInsights);
-        String needsSummary = buildNeedsSummary(needsInsights);
+        return new ReportDraft(family, periodStart, periodEnd,
+                buildHealthSummary(healthInsights),
+                buildEmotionSummary(emotionInsights),
+                buildNeedsSummary(needsInsights));
+    }
 
-        // AI로 전체 요약 생성
-        String overallSummary = generateOverallSummary(healthSummary, emotionSummary, needsSummary);
+    /**
+     * 리포트 저장
+     * AI 생성 도중 같은 기간 리포트가 먼저 저장됐다면 충돌로 처리
+     */
+    private WeeklyReport saveReport(ReportDraft draft, String summary, List<TipDto> tips) {
+        Long familyId = draft.family().getId();
 
         // 리포트 생성
         WeeklyReport report = WeeklyReport.builder()
-                .family(family)
-                .periodStart(periodStart)
-                .periodEnd(periodEnd)
-                .summary(overallSummary)
-                .healthSummary(healthSummary)
-                .emotionSummary(emotionSummary)
-                .needsSummary(needsSummary)
+                .family(draft.family())
+                .periodStart(draft.periodStart())
+                .periodEnd(draft.periodEnd())
+                .summary(summary)
+                .healthSummary(draft.healthSummary())
+                .emotionSummary(draft.emotionSummary())
+                .needsSummary(draft.needsSummary())
                 .generatedAt(LocalDateTime.now())
                 .build();
 
-        // 대화 치트키 생성 (AI)
-        List<ConversationTip> tips = generateConversationTips(report, healthSummary, emotionSummary, needsSummary);
-        tips.forEach(report::addConversationTip);
+        tips.stream()
+                .map(dto -> ConversationTip.builder()
+                        .report(report)
+                        .content(dto.content())
+                        .priority(dto.priority())
+                        .category(dto.category())
+                        .build())
+                .forEach(report::addConversationTip);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (weeklyReportRepository.existsByFamilyAndPeriod(draft.family(), draft.periodStart(), draft.periodEnd())) {
+                log.warn("Weekly report was created concurrently for this period. familyId: {}", familyId);
+                throw new IllegalStateException("해당 기간의 리포트가 이미 존재합니다.");
+            }
 
-        weeklyReportRepository.save(report);
+            weeklyReportRepository.save(report);
+        });
 
         log.info("Weekly report generated successfully. reportId: {}, familyId: {}", report.getId(), familyId);
 
@@ -145,8 +257,15 @@ public class ReportService {
     /**
      * AI로 전체 요약 생성
      */
-    private String generateOverallSummary(String healthSummary, String emotionSummary, String needsSummary) {
-        String prompt = String.format("""
+    private Mono<String> generateOverallSummary(ReportDraft draft) {
+        return geminiClient.generateAsync(buildOverallSummaryPrompt(draft));
+    }
+
+    /**
+     * 전체 요약 프롬프트
+     */
+    private String buildOverallSummaryPrompt(ReportDraft draft) {
+        return String.format("""
                 다음은 부모님의 이번 주 상태 분석 결과입니다.
                 이를 종합하여 자녀에게 전달할 따뜻한 요약문을 2-3문장으로 작성해주세요.
 
@@ -160,18 +279,13 @@ public class ReportService {
                 %s
 
                 요약문만 작성해주세요 (다른 설명 없이):
-                """, healthSummary, emotionSummary, needsSummary);
-
-        return geminiClient.generate(prompt);
+                """, draft.healthSummary(), draft.emotionSummary(), draft.needsSummary());
     }
 
     /**
      * 대화 치트키 생성 (AI)
      */
-    private List<ConversationTip> generateConversationTips(WeeklyReport report,
-                                                            String healthSummary,
-                                                            String emotionSummary,
-                                                            String needsSummary) {
+    private Mono<List<TipDto>> generateConversationTips(ReportDraft draft) {
         String prompt = String.format("""
                 다음은 부모님의 이번 주 상태 분석 결과입니다.
                 자녀가 부모님과 대화할 때 사용할 수 있는 대화 소재 3가지를 제안해주세요.
@@ -197,64 +311,67 @@ public class ReportService {
                 }
 
                 대화 소재는 자연스럽고 따뜻하게 작성해주세요.
-                """, healthSummary, emotionSummary, needsSummary);
-
-        try {
-            String aiResponse = geminiClient.generate(prompt);
-            JsonNode jsonResponse = objectMapper.readTree(aiResponse);
-            JsonNode tipsNode = jsonResponse.get("tips");
-
-            List<TipDto> tipDtos = objectMapper.convertValue(tipsNode,
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, TipDto.class));
-
-            return tipDtos.stream()
-                    .map(dto -> ConversationTip.builder()
-                            .report(report)
-                            .content(dto.content())
-                            .priority(dto.priority())
-                            .category(dto.category())
-                            .build())
-                    .toList();
-
-        } catch (Exception e) {
-            log.error("Failed to generate conversation tips", e);
-            // 실패 시 기본 팁 반환
-            return List.of(
-                    ConversationTip.builder()
-                            .report(report)
-                            .content("요즘 건강은 어떠세요? 불편한 곳은 없으신가요?")
-                            .priority(5)
-                            .category("건강 관심")
-                            .build()
-            );
-        }
+                """, draft.healthSummary(), draft.emotionSummary(), draft.needsSummary());
+
+        return geminiClient.generateAsync(prompt)
+                .<List<TipDto>>handle((aiResponse, sink) -> {
+                    try {
+                        JsonNode tipsNode = objectMapper.readTree(aiResponse).get("tips");
+                        sink.next(objectMapper.convertValue(tipsNode,
+                                objectMapper.getTypeFactory().constructCollectionType(List.class, TipDto.class)));
+                    } catch (Exception e) {
+                        sink.error(e);
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.error("Failed to generate conversation tips", e);
+                    // 실패 시 기본 팁 반환
+                    return Mono.just(List.of(
+                            new TipDto("요즘 건강은 어떠세요? 불편한 곳은 없으신가요?", 5, "건강 관심")
+                    ));
+                });
     }
 
     /**
      * 특정 가족의 최신 리포트 조회
      */
-    public WeeklyReport getLatestReport(Long familyId) {
+    @Transactional(readOnly = true)
+    public WeeklyReportResponse getLatestReport(Long familyId) {
         log.info("Getting latest report. familyId: {}", familyId);
 
         Family family = familyRepository.findById(familyId)
                 .orElseThrow(() -> new IllegalArgumentException("가족 그룹을 찾을 수 없습니다. familyId: " + familyId));
 
         return weeklyReportRepository.findLatestByFamily(family)
+                .map(WeeklyReportResponse::from)
                 .orElseThrow(() -> new IllegalStateException("생성된 리포트가 없습니다."));
     }
 
     /**
      * 특정 가족의 모든 리포트 조회
      */
-    public List<WeeklyReport> getAllReports(Long familyId) {
+    @Transactional(readOnly = true)
+    public List<WeeklyReportResponse> getAllReports(Long familyId) {
         log.info("Getting all reports. familyId: {}", familyId);
 
         Family family = familyRepository.findById(familyId)
                 .orElseThrow(() -> new IllegalArgumentException("가족 그룹을 찾을 수 없습니다. familyId: " + familyId));
 
-        return weeklyReportRepository.findByFamilyOrderByGeneratedAtDesc(family);
+        return weeklyReportRepository.findByFamilyOrderByGeneratedAtDesc(family).stream()
+                .map(WeeklyReportResponse::from)
+                .toList();
     }
 
+    /**
+     * AI 생성 전 조회 단계 결과
+     */
+    private record ReportDraft(Family family,
+                               LocalDateTime periodStart,
+                               LocalDateTime periodEnd,
+                               String healthSummary,
+                               String emotionSummary,
+                               String needsSummary) {}
+
     /**
      * 대화 치트키 DTO
      */
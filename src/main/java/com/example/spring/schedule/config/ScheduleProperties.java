@@ -0,0 +1,33 @@
+package com.example.spring.schedule.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 다중 노드 스케줄 실행 설정 Properties
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "schedule")
+public class ScheduleProperties {
+
+    /**
+     * 한 번의 실행을 나눌 샤드 수 (노드 수보다 충분히 크게 설정)
+     */
+    private int shardCount = 16;
+
+    /**
+     * 샤드 임대 시간 (처리 중에는 schedule.heartbeat-interval 주기와 페이지 처리가 끝날 때마다 연장)
+     */
+    private Duration leaseDuration = Duration.ofMinutes(15);
+
+    /**
+     * 샤드에서 가족 ID를 한 번에 조회할 개수
+     */
+    private int pageSize = 100;
+}
@@ -0,0 +1,82 @@
+package com.example.spring.schedule.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 샤드 임대
+ * 한 번의 실행(runKey)을 가족 ID 기준 샤드로 나누고, 각 노드가 샤드를 임대하여 처리
+ * 임대가 만료된 미완료 샤드는 다른 노드가 이어서 처리
+ */
+@Entity
+@Table(name = "schedule_shard_leases", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_schedule_shard_leases_task_run_shard", columnNames = {"task", "run_key", "shard"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ShardLease {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 작업 이름 (예: daily-analysis)
+     */
+    @Column(nullable = false, length = 50)
+    private String task;
+
+    /**
+     * 실행 식별자 (예: 실행 날짜)
+     */
+    @Column(name = "run_key", nullable = false, length = 50)
+    private String runKey;
+
+    /**
+     * 샤드 번호 (가족 ID % shardCount)
+     */
+    @Column(nullable = false)
+    private int shard;
+
+    /**
+     * 전체 샤드 수
+     */
+    @Column(nullable = false)
+    private int shardCount;
+
+    /**
+     * 임대한 노드 ID
+     */
+    @Column(length = 100)
+    private String owner;
+
+    /**
+     * 임대 만료 시각
+     */
+    @Column
+    private LocalDateTime leaseUntil;
+
+    /**
+     * 마지막으로 처리한 가족 ID (이어서 처리할 위치)
+     */
+    @Column(name = "progress_cursor")
+    private Long cursor;
+
+    /**
+     * 완료 시각
+     */
+    @Column
+    private LocalDateTime completedAt;
+
+    /**
+     * 샤드 임대
+     */
+    public void lease(String owner, LocalDateTime leaseUntil) {
+        this.owner = owner;
+        this.leaseUntil = leaseUntil;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.spring.schedule.repository;
+
+import com.example.spring.schedule.domain.ShardLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 스케줄 작업 샤드 임대 Repository
+ */
+@Repository
+public interface ShardLeaseRepository extends JpaRepository<ShardLease, Long> {
+
+    /**
+     * 샤드 행 생성 (이미 있으면 무시)
+     * 여러 노드가 동시에 실행해도 실행당 샤드 행은 하나만 생성됨
+     */
+    @Modifying
+    @Query(value = "INSERT INTO schedule_shard_leases (task, run_key, shard, shard_count) " +
+            "VALUES (:task, :runKey, :shard, :shardCount) " +
+            "ON CONFLICT (task, run_key, shard) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(
+            @Param("task") String task,
+            @Param("runKey") String runKey,
+            @Param("shard") int shard,
+            @Param("shardCount") int shardCount
+    );
+
+    /**
+     * 처리할 수 있는 샤드 하나를 잠그고 조회
+     * 미완료이면서 임대된 적이 없거나 임대가 만료된 샤드가 대상이며, 다른 노드가 잠근 행은 건너뜀
+     */
+    @Query(value = "SELECT * FROM schedule_shard_leases " +
+            "WHERE task = :task AND run_key = :runKey " +
+            "AND completed_at IS NULL " +
+            "AND (lease_until IS NULL OR lease_until < :now) " +
+            "ORDER BY shard " +
+            "LIMIT 1 " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<ShardLease> lockClaimable(
+            @Param("task") String task,
+            @Param("runKey") String runKey,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 처리할 수 있는 샤드가 있는지 확인 (중단된 실행 감지)
+     */
+    @Query("SELECT COUNT(s) > 0 FROM ShardLease s " +
+            "WHERE s.task = :task AND s.runKey = :runKey " +
+            "AND s.completedAt IS NULL " +
+            "AND (s.leaseUntil IS NULL OR s.leaseUntil < :now)")
+    boolean existsClaimable(
+            @Param("task") String task,
+            @Param("runKey") String runKey,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 진행 위치 기록 + 임대 연장 (다른 노드가 가져간 경우 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE ShardLease s SET s.cursor = :cursor, s.leaseUntil = :leaseUntil " +
+            "WHERE s.id = :id AND s.owner = :owner AND s.completedAt IS NULL")
+    int checkpoint(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("cursor") Long cursor,
+            @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    /**
+     * 처리 중인 샤드의 임대 연장 (다른 노드가 가져간 경우 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE ShardLease s SET s.leaseUntil = :leaseUntil " +
+            "WHERE s.id = :id AND s.owner = :owner AND s.completedAt IS NULL")
+    int renewLease(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    /**
+     * 샤드 완료 처리 (다른 노드가 가져간 경우 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE ShardLease s SET s.completedAt = :completedAt, s.leaseUntil = NULL " +
+            "WHERE s.id = :id AND s.owner = :owner AND s.completedAt IS NULL")
+    int complete(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("completedAt") LocalDateTime completedAt
+    );
+}
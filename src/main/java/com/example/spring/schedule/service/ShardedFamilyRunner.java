@@ -0,0 +1,208 @@
+package com.example.spring.schedule.service;
+
+import com.example.spring.family.repository.FamilyRepository;
+import com.example.spring.schedule.config.ScheduleProperties;
+import com.example.spring.schedule.domain.ShardLease;
+import com.example.spring.schedule.repository.ShardLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 가족 샤드 단위 분산 실행기
+ * 여러 노드가 같은 스케줄을 동시에 실행해도 각 샤드는 한 노드만 임대하여 처리
+ * - 샤드: 가족 ID % shardCount
+ * - 페이지 처리가 끝날 때마다 진행 위치를 기록하고 임대를 연장
+ * - 페이지 처리 중에도 주기적으로 임대를 연장하며, 임대를 잃으면 처리 중인 페이지도 중단
+ * - 노드가 중단되어 임대가 만료되면 다른 노드가 마지막 기록 위치부터 이어서 처리
+ */
+@Slf4j
+@Component
+public class ShardedFamilyRunner {
+
+    private final ShardLeaseRepository shardLeaseRepository;
+    private final FamilyRepository familyRepository;
+    private final ScheduleProperties scheduleProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final String nodeId;
+
+    /**
+     * 이 노드가 처리 중인 샤드 임대 ID → 임대 보유 여부
+     */
+    private final ConcurrentMap<Long, AtomicBoolean> heldLeases = new ConcurrentHashMap<>();
+
+    public ShardedFamilyRunner(ShardLeaseRepository shardLeaseRepository,
+                               FamilyRepository familyRepository,
+                               ScheduleProperties scheduleProperties,
+                               TransactionTemplate transactionTemplate) {
+        this.shardLeaseRepository = shardLeaseRepository;
+        this.familyRepository = familyRepository;
+        this.scheduleProperties = scheduleProperties;
+        this.transactionTemplate = transactionTemplate;
+        this.nodeId = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 처리할 샤드가 없을 때까지 샤드를 임대하여 가족 ID 페이지 단위로 처리
+     * 페이지 처리 중 노드가 중단되면 해당 페이지는 다른 노드가 다시 처리하므로 pageHandler는 멱등이어야 함
+     *
+     * @param task 작업 이름
+     * @param runKey 실행 식별자 (같은 값이면 같은 실행으로 간주)
+     * @param pageHandler 가족 ID 페이지 처리
+     * @return 이 노드가 처리한 샤드 수
+     */
+    public int run(String task, String runKey, PageHandler pageHandler) {
+        int shardCount = scheduleProperties.getShardCount();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int shard = 0; shard < shardCount; shard++) {
+                shardLeaseRepository.insertIfAbsent(task, runKey, shard, shardCount);
+            }
+        });
+
+        int processed = 0;
+        Optional<ShardLease> lease;
+        while ((lease = claim(task, runKey)).isPresent()) {
+            if (processShard(lease.get(), pageHandler)) {
+                processed++;
+            }
+        }
+
+        log.info("No more shards to claim. task: {}, runKey: {}, nodeId: {}, processedShards: {}",
+                task, runKey, nodeId, processed);
+        return processed;
+    }
+
+    /**
+     * 시작되었지만 아무 노드도 처리하지 않고 있는 샤드가 있는지 확인
+     * (처리하던 노드가 중단되어 임대가 만료된 경우 포함)
+     */
+    public boolean hasClaimableShards(String task, String runKey) {
+        return shardLeaseRepository.existsClaimable(task, runKey, LocalDateTime.now());
+    }
+
+    /**
+     * 처리 중인 샤드의 임대 연장 (임대 시간보다 짧은 주기로 실행)
+     * 페이지 하나의 처리가 임대 시간보다 오래 걸려도 다른 노드가 샤드를 가져가지 않도록 함
+     */
+    @Scheduled(fixedDelayString = "${schedule.heartbeat-interval:1m}")
+    public void heartbeat() {
+        heldLeases.forEach((leaseId, held) -> {
+            try {
+                Integer renewed = transactionTemplate.execute(status -> shardLeaseRepository.renewLease(
+                        leaseId, nodeId, LocalDateTime.now().plus(scheduleProperties.getLeaseDuration())));
+                if (renewed == null || renewed == 0) {
+                    log.warn("Lost shard lease during heartbeat. leaseId: {}, nodeId: {}", leaseId, nodeId);
+                    held.set(false);
+                }
+            } catch (Exception e) {
+                // 연장에 실패해도 다음 주기에 다시 시도 (그 사이 임대가 만료되면 다른 노드가 가져감)
+                log.error("Failed to renew shard lease. leaseId: {}", leaseId, e);
+            }
+        });
+    }
+
+    private Optional<ShardLease> claim(String task, String runKey) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            Optional<ShardLease> lease = shardLeaseRepository.lockClaimable(task, runKey, now);
+            lease.ifPresent(shardLease -> {
+                if (shardLease.getOwner() != null) {
+                    log.warn("Taking over shard with expired lease. task: {}, runKey: {}, shard: {}, previousOwner: {}",
+                            task, runKey, shardLease.getShard(), shardLease.getOwner());
+                }
+                shardLease.lease(nodeId, now.plus(scheduleProperties.getLeaseDuration()));
+            });
+            return lease;
+        });
+    }
+
+    /**
+     * 임대한 샤드를 마지막 기록 위치부터 처리
+     *
+     * @return 샤드를 끝까지 처리했으면 true (도중에 임대를 잃으면 false)
+     */
+    private boolean processShard(ShardLease lease, PageHandler pageHandler) {
+        int pageSize = scheduleProperties.getPageSize();
+        Long lastId = lease.getCursor() != null ? lease.getCursor() : 0L;
+        log.info("Processing shard. task: {}, runKey: {}, shard: {}/{}, fromId: {}",
+                lease.getTask(), lease.getRunKey(), lease.getShard(), lease.getShardCount(), lastId);
+
+        AtomicBoolean held = new AtomicBoolean(true);
+        heldLeases.put(lease.getId(), held);
+        try {
+            List<Long> familyIds;
+            do {
+                familyIds = familyRepository.findIdsInShardAfter(
+                        lastId, lease.getShardCount(), lease.getShard(), PageRequest.of(0, pageSize));
+                if (familyIds.isEmpty()) {
+                    break;
+                }
+
+                pageHandler.handle(familyIds, held::get);
+                if (!held.get()) {
+                    // 처리하지 못한 가족은 샤드를 가져간 노드가 마지막 기록 위치부터 다시 처리
+                    log.warn("Lost shard lease while processing page. Stopping shard. task: {}, runKey: {}, shard: {}, lastId: {}",
+                            lease.getTask(), lease.getRunKey(), lease.getShard(), lastId);
+                    return false;
+                }
+                lastId = familyIds.get(familyIds.size() - 1);
+
+                if (!checkpoint(lease, lastId)) {
+                    held.set(false);
+                    log.warn("Lost shard lease. Stopping shard. task: {}, runKey: {}, shard: {}, lastId: {}",
+                            lease.getTask(), lease.getRunKey(), lease.getShard(), lastId);
+                    return false;
+                }
+            } while (familyIds.size() == pageSize);
+
+            Integer completed = transactionTemplate.execute(status ->
+                    shardLeaseRepository.complete(lease.getId(), nodeId, LocalDateTime.now()));
+            return completed != null && completed > 0;
+        } finally {
+            heldLeases.remove(lease.getId());
+        }
+    }
+
+    private boolean checkpoint(ShardLease lease, Long lastId) {
+        Integer updated = transactionTemplate.execute(status -> shardLeaseRepository.checkpoint(
+                lease.getId(), nodeId, lastId, LocalDateTime.now().plus(scheduleProperties.getLeaseDuration())));
+        return updated != null && updated > 0;
+    }
+
+    /**
+     * 샤드의 가족 ID 페이지 처리
+     */
+    @FunctionalInterface
+    public interface PageHandler {
+
+        /**
+         * 페이지의 모든 가족 처리가 끝난 뒤 반환해야 함
+         * 다른 노드가 다시 처리할 수 있으므로 멱등이어야 함
+         *
+         * @param leaseHeld 샤드 임대를 아직 보유 중인지 확인 (false가 되면 남은 가족은 처리하지 않고 반환)
+         */
+        void handle(List<Long> familyIds, BooleanSupplier leaseHeld);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
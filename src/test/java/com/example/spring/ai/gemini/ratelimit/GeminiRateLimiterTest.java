@@ -0,0 +1,121 @@
+package com.example.spring.ai.gemini.ratelimit;
+
+import com.example.spring.ai.gemini.config.GeminiProperties;
+import com.example.spring.ai.gemini.ratelimit.GeminiRateLimiter.Permit;
+import com.example.spring.common.exception.GeminiRateLimitException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeminiRateLimiterTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void waitsForReleaseWhenConcurrencyLimitReached() throws Exception {
+        GeminiRateLimiter limiter = limiter(rateLimit -> rateLimit.setMaxConcurrentRequests(1));
+
+        Permit first = limiter.acquire(10).block(TIMEOUT);
+        CompletableFuture<Permit> second = limiter.acquire(10).toFuture();
+
+        Thread.sleep(100);
+        assertThat(second).isNotDone();
+        assertThat(limiter.stats().queueDepth()).isEqualTo(1);
+
+        first.release();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(limiter.stats().activeRequests()).isEqualTo(1);
+    }
+
+    @Test
+    void releaseIsIdempotent() {
+        GeminiRateLimiter limiter = limiter(rateLimit -> rateLimit.setMaxConcurrentRequests(2));
+
+        Permit permit = limiter.acquire(10).block(TIMEOUT);
+        permit.release();
+        permit.release();
+
+        assertThat(limiter.stats().activeRequests()).isZero();
+    }
+
+    @Test
+    void grantsWaitersInArrivalOrder() throws Exception {
+        GeminiRateLimiter limiter = limiter(rateLimit -> rateLimit.setMaxConcurrentRequests(1));
+
+        Permit first = limiter.acquire(10).block(TIMEOUT);
+        CompletableFuture<Permit> second = limiter.acquire(10).toFuture();
+        CompletableFuture<Permit> third = limiter.acquire(10).toFuture();
+
+        first.release();
+        Permit secondPermit = second.get(5, TimeUnit.SECONDS);
+        Thread.sleep(100);
+        assertThat(third).isNotDone();
+
+        secondPermit.release();
+        assertThat(third.get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() {
+        GeminiRateLimiter limiter = limiter(rateLimit -> {
+            rateLimit.setMaxConcurrentRequests(1);
+            rateLimit.setMaxQueueSize(1);
+        });
+
+        limiter.acquire(10).block(TIMEOUT);
+        limiter.acquire(10).toFuture();
+
+        assertThatThrownBy(() -> limiter.acquire(10).block(TIMEOUT))
+                .isInstanceOf(GeminiRateLimitException.class);
+        assertThat(limiter.stats().rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsEarlyWhenBucketCannotRefillBeforeDeadline() {
+        GeminiRateLimiter limiter = limiter(rateLimit -> {
+            rateLimit.setRequestsPerMinute(1);
+            rateLimit.setMaxWait(Duration.ofSeconds(1));
+        });
+
+        limiter.acquire(10).block(TIMEOUT).release();
+
+        // 다음 요청 허가까지 약 1분이 필요하므로 1초를 기다리지 않고 바로 거절
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> limiter.acquire(10).block(TIMEOUT))
+                .isInstanceOf(GeminiRateLimitException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void cancelledWaiterLeavesQueue() {
+        GeminiRateLimiter limiter = limiter(rateLimit -> rateLimit.setMaxConcurrentRequests(1));
+
+        limiter.acquire(10).block(TIMEOUT);
+        limiter.acquire(10).subscribe().dispose();
+
+        assertThat(limiter.stats().queueDepth()).isZero();
+    }
+
+    @Test
+    void disabledLimiterGrantsImmediately() {
+        GeminiRateLimiter limiter = limiter(rateLimit -> {
+            rateLimit.setEnabled(false);
+            rateLimit.setMaxConcurrentRequests(1);
+        });
+
+        assertThat(limiter.acquire(10).block(TIMEOUT)).isNotNull();
+        assertThat(limiter.acquire(10).block(TIMEOUT)).isNotNull();
+    }
+
+    private static GeminiRateLimiter limiter(Consumer<GeminiProperties.RateLimit> customizer) {
+        GeminiProperties properties = new GeminiProperties();
+        customizer.accept(properties.getRateLimit());
+        return new GeminiRateLimiter(properties);
+    }
+}
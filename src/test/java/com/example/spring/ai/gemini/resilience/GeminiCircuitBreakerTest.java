@@ -0,0 +1,173 @@
+package com.example.spring.ai.gemini.resilience;
+
+import com.example.spring.ai.gemini.config.GeminiProperties;
+import com.example.spring.ai.gemini.resilience.GeminiCircuitBreaker.State;
+import com.example.spring.common.exception.GeminiRateLimitException;
+import com.example.spring.common.exception.GeminiUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeminiCircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofMillis(100);
+
+    /**
+     * IllegalStateException만 서킷 실패로 집계 (IllegalArgumentException은 클라이언트 오류로 간주)
+     */
+    private static final Predicate<Throwable> IS_FAILURE = IllegalStateException.class::isInstance;
+
+    private GeminiCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        GeminiProperties properties = new GeminiProperties();
+        properties.getCircuitBreaker().setFailureThreshold(2);
+        properties.getCircuitBreaker().setOpenDuration(OPEN_DURATION);
+        circuitBreaker = new GeminiCircuitBreaker(properties);
+    }
+
+    @Test
+    void opensAfterConsecutiveFailuresAndRejectsWithoutCalling() {
+        fail();
+        assertThat(circuitBreaker.stats().state()).isEqualTo(State.CLOSED);
+        fail();
+        assertThat(circuitBreaker.stats().state()).isEqualTo(State.OPEN);
+
+        AtomicBoolean called = new AtomicBoolean();
+        Mono<String> call = Mono.fromCallable(() -> {
+            called.set(true);
+            return "ok";
+        });
+
+        assertThatThrownBy(() -> circuitBreaker.protect(call, IS_FAILURE).block())
+                .isInstanceOf(GeminiUnavailableException.class);
+        assertThat(called).isFalse();
+        assertThat(circuitBreaker.stats().rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void successResetsFailureCount() {
+        fail();
+        succeed();
+        fail();
+
+        assertThat(circuitBreaker.stats().state()).isEqualTo(State.CLOSED);
+        assertThat(circuitBreaker.stats().consecutiveFailures()).isEqualTo(1);
+    }
+
+    @Test
+    void nonFailureErrorsDoNotOpenCircuit() {
+        for (int i = 0; i < 3; i++) {
+            Mono<String> call = Mono.error(new IllegalArgumentException("bad request"));
+            assertThatThrownBy(() -> circuitBreaker.protect(call, IS_FAILURE).block())
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        assertThat(circuitBreaker.stats().state()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void halfOpenTrialSuccessClosesCircuit() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_DURATION.toMillis() * 2);
+        assertThat(circuitBreaker.stats().state()).isEqualTo(State.HALF_OPEN);
+
+        succeed();
+
+        assertThat(circuitBreaker.stats().state()).isEqualTo(State.CLOSED);
+        assertThat(circuitBreaker.stats().consecutiveFailures()).isZero();
+    }
+
+    @Test
+    void halfOpenTrialFailureReopensCircuit() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_DURATION.toMillis() * 2);
+
+        fail();
+
+        assertThat(circuitBreaker.stats().state()).isEqualTo(State.OPEN);
+        assertThat(circuitBreaker.stats().openedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void halfOpenAllowsOnlyOneTrialAtATime() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_DURATION.toMillis() * 2);
+
+        Disposable trial = circuitBreaker.protect(Mono.never(), IS_FAILURE).subscribe();
+
+        assertThatThrownBy(() -> circuitBreaker.protect(Mono.just("ok"), IS_FAILURE).block())
+                .isInstanceOf(GeminiUnavailableException.class);
+
+        // 취소된 시험 호출은 결과 없이 다음 시험 호출에 자리를 넘김
+        trial.dispose();
+        succeed();
+        assertThat(circuitBreaker.stats().state()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void localRateLimitRejectionDoesNotCloseHalfOpenCircuit() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_DURATION.toMillis() * 2);
+
+        Mono<String> call = Mono.error(new GeminiRateLimitException("queue full"));
+        assertThatThrownBy(() -> circuitBreaker.protect(call, IS_FAILURE).block())
+                .isInstanceOf(GeminiRateLimitException.class);
+
+        assertThat(circuitBreaker.stats().state()).isEqualTo(State.HALF_OPEN);
+        assertThat(circuitBreaker.stats().consecutiveFailures()).isEqualTo(2);
+
+        // 시험 호출 자리는 반환되어 다음 시험 호출이 가능
+        fail();
+        assertThat(circuitBreaker.stats().state()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void localRateLimitRejectionDoesNotResetFailureCount() {
+        fail();
+
+        Mono<String> call = Mono.error(new GeminiRateLimitException("queue full"));
+        assertThatThrownBy(() -> circuitBreaker.protect(call, IS_FAILURE).block())
+                .isInstanceOf(GeminiRateLimitException.class);
+
+        assertThat(circuitBreaker.stats().consecutiveFailures()).isEqualTo(1);
+    }
+
+    @Test
+    void streamFailureAfterFirstChunkCountsAsFailure() {
+        GeminiProperties properties = new GeminiProperties();
+        properties.getCircuitBreaker().setFailureThreshold(1);
+        GeminiCircuitBreaker streamBreaker = new GeminiCircuitBreaker(properties);
+
+        Flux<String> failingStream = Flux.concat(Flux.just("a"), Flux.error(new IllegalStateException("cut")));
+        assertThatThrownBy(() -> streamBreaker.protect(failingStream, IS_FAILURE).blockLast())
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(streamBreaker.stats().state()).isEqualTo(State.OPEN);
+    }
+
+    private void open() {
+        fail();
+        fail();
+    }
+
+    private void fail() {
+        Mono<String> call = Mono.error(new IllegalStateException("503"));
+        assertThatThrownBy(() -> circuitBreaker.protect(call, IS_FAILURE).block())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private void succeed() {
+        assertThat(circuitBreaker.protect(Mono.just("ok"), IS_FAILURE).block()).isEqualTo("ok");
+    }
+}
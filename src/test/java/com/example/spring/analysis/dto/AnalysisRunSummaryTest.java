@@ -0,0 +1,66 @@
+package com.example.spring.analysis.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalysisRunSummaryTest {
+
+    @Test
+    void computesNearestRankPercentiles() {
+        List<Long> latencies = new ArrayList<>(LongStream.rangeClosed(1, 100).boxed().toList());
+        Collections.shuffle(latencies);
+
+        AnalysisRunSummary summary = AnalysisRunSummary.of(latencies, List.of(), 10_000);
+
+        assertThat(summary.p50LatencyMillis()).isEqualTo(50);
+        assertThat(summary.p99LatencyMillis()).isEqualTo(99);
+        assertThat(summary.maxLatencyMillis()).isEqualTo(100);
+    }
+
+    @Test
+    void countsFailuresAndThroughput() {
+        AnalysisRunSummary summary = AnalysisRunSummary.of(List.of(100L, 200L, 300L, 400L), List.of(7L), 2_000);
+
+        assertThat(summary.totalFamilies()).isEqualTo(4);
+        assertThat(summary.succeeded()).isEqualTo(3);
+        assertThat(summary.failed()).isEqualTo(1);
+        assertThat(summary.failedFamilyIds()).containsExactly(7L);
+        assertThat(summary.familiesPerSecond()).isEqualTo(2.0);
+    }
+
+    @Test
+    void singleSampleIsEveryPercentile() {
+        AnalysisRunSummary summary = AnalysisRunSummary.of(List.of(42L), List.of(), 42);
+
+        assertThat(summary.p50LatencyMillis()).isEqualTo(42);
+        assertThat(summary.p99LatencyMillis()).isEqualTo(42);
+        assertThat(summary.maxLatencyMillis()).isEqualTo(42);
+    }
+
+    @Test
+    void emptyRunHasZeroValues() {
+        AnalysisRunSummary summary = AnalysisRunSummary.of(List.of(), List.of(), 0);
+
+        assertThat(summary.totalFamilies()).isZero();
+        assertThat(summary.familiesPerSecond()).isZero();
+        assertThat(summary.p50LatencyMillis()).isZero();
+        assertThat(summary.p99LatencyMillis()).isZero();
+        assertThat(summary.maxLatencyMillis()).isZero();
+    }
+
+    @Test
+    void failedFamilyIdsAreCopied() {
+        List<Long> failed = new ArrayList<>(List.of(1L));
+
+        AnalysisRunSummary summary = AnalysisRunSummary.of(List.of(10L), failed, 10);
+        failed.add(2L);
+
+        assertThat(summary.failedFamilyIds()).containsExactly(1L);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.spring.analysis.support;
+
+import com.example.spring.analysis.support.TranscriptBuilder.Transcript;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TranscriptBuilderTest {
+
+    @Test
+    void splitsLinesIntoChunksWithinBudget() {
+        Transcript transcript = TranscriptBuilder.ofLines(List.of("가나다", "라마바", "사아자"), 8);
+
+        assertThat(transcript.chunks()).containsExactly("가나다\n라마바", "사아자");
+        assertThat(transcript.totalTokens()).isEqualTo(12);
+    }
+
+    @Test
+    void truncatesOversizedLineOnCodePointBoundary() {
+        // 이모지는 서로게이트 쌍(2 char)이므로 char 단위로 자르면 쌍이 깨질 수 있음
+        String line = "😀".repeat(20);
+
+        Transcript transcript = TranscriptBuilder.ofLines(List.of(line), 5);
+
+        String chunk = transcript.chunks().getFirst();
+        assertThat(chunk).isEqualTo("😀😀😀…");
+        // 깨진 서로게이트가 있으면 UTF-8 변환 시 대체 문자로 바뀜
+        assertThat(new String(chunk.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8)).isEqualTo(chunk);
+    }
+
+    @Test
+    void truncatedLineFitsBudget() {
+        Transcript transcript = TranscriptBuilder.ofLines(List.of("가".repeat(100)), 10);
+
+        assertThat(transcript.chunks()).containsExactly("가".repeat(8) + "…");
+        assertThat(transcript.totalTokens()).isLessThanOrEqualTo(10);
+    }
+}
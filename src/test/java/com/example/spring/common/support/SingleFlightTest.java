@@ -0,0 +1,180 @@
+package com.example.spring.common.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void concurrentCallsWithSameKeyShareOneExecution() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> singleFlight.execute(1L, () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "result";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> singleFlight.execute(1L, () -> {
+            executions.incrementAndGet();
+            return "other";
+        }));
+        waitUntilBlocked(second);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(singleFlight.isRunning(1L)).isFalse();
+    }
+
+    @Test
+    void failureIsPropagatedToJoinedCallers() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> singleFlight.execute(1L, () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("boom");
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> singleFlight.execute(1L, () -> "other"));
+        waitUntilBlocked(second);
+        release.countDown();
+
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void sequentialCallsExecuteAgainAfterCompletion() {
+        AtomicInteger executions = new AtomicInteger();
+
+        singleFlight.execute(1L, () -> "a" + executions.incrementAndGet());
+        String second = singleFlight.execute(1L, () -> "a" + executions.incrementAndGet());
+
+        assertThat(second).isEqualTo("a2");
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    void differentKeysDoNotShareExecution() {
+        assertThat(singleFlight.execute(1L, () -> "one")).isEqualTo("one");
+        assertThat(singleFlight.execute(2L, () -> "two")).isEqualTo("two");
+    }
+
+    @Test
+    void sameKeyWithDifferentRequestRunsOwnTaskAfterInFlightOne() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> full = CompletableFuture.supplyAsync(() -> singleFlight.execute(1L, "30d:full", () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            started.countDown();
+            await(release);
+            running.decrementAndGet();
+            return "full";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> incremental = CompletableFuture.supplyAsync(() ->
+                singleFlight.execute(1L, "7d:incremental", () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    running.decrementAndGet();
+                    return "incremental";
+                }));
+        waitUntilBlocked(incremental);
+        release.countDown();
+
+        // 다른 요청은 진행 중인 결과를 받지 않고 끝난 뒤 자기 작업을 실행 (동시에 실행되지 않음)
+        assertThat(full.get(5, TimeUnit.SECONDS)).isEqualTo("full");
+        assertThat(incremental.get(5, TimeUnit.SECONDS)).isEqualTo("incremental");
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(singleFlight.isRunning(1L)).isFalse();
+    }
+
+    @Test
+    void differentRequestRunsEvenIfInFlightOneFails() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> failing = CompletableFuture.supplyAsync(() -> singleFlight.execute(1L, "a", () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("boom");
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> other = CompletableFuture.supplyAsync(() -> singleFlight.execute(1L, "b", () -> "b"));
+        waitUntilBlocked(other);
+        release.countDown();
+
+        assertThatThrownBy(() -> failing.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(other.get(5, TimeUnit.SECONDS)).isEqualTo("b");
+    }
+
+    @Test
+    void registeredFutureIsSharedUntilCompleted() throws Exception {
+        CompletableFuture<String> registered = new CompletableFuture<>();
+        assertThat(singleFlight.register(1L, registered)).isTrue();
+        assertThat(singleFlight.register(1L, new CompletableFuture<>())).isFalse();
+
+        CompletableFuture<String> joined = CompletableFuture.supplyAsync(() -> singleFlight.execute(1L, () -> "other"));
+        waitUntilBlocked(joined);
+        registered.complete("streamed");
+
+        assertThat(joined.get(5, TimeUnit.SECONDS)).isEqualTo("streamed");
+        assertThat(singleFlight.isRunning(1L)).isFalse();
+    }
+
+    @Test
+    void registerFailsWhileExecuteIsRunning() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> singleFlight.execute(1L, () -> {
+            started.countDown();
+            await(release);
+            return "result";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(singleFlight.register(1L, new CompletableFuture<>())).isFalse();
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        assertThat(singleFlight.register(1L, new CompletableFuture<>())).isTrue();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 두 번째 호출이 진행 중인 작업에 합류할 시간을 줌 (합류 전에 완료되면 병합 여부를 검증할 수 없음)
+     */
+    private static void waitUntilBlocked(CompletableFuture<?> future) throws InterruptedException {
+        Thread.sleep(100);
+        assertThat(future).isNotDone();
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.spring.conversation.support;
+
+import com.example.spring.conversation.support.KakaoTalkExportParser.ParsedMessage;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KakaoTalkExportParserTest {
+
+    @Test
+    void parsesPcExportWithDateSeparators() throws IOException {
+        List<ParsedMessage> messages = parse("""
+                --------------- 2024년 1월 15일 월요일 ---------------
+                [엄마] [오전 10:30] 밥 먹었니?
+                [아들] [오후 3:05] 네 먹었어요
+                --------------- 2024년 1월 16일 화요일 ---------------
+                [엄마] [오전 9:00] 잘 잤니
+                """);
+
+        assertThat(messages).containsExactly(
+                new ParsedMessage("엄마", LocalDateTime.of(2024, 1, 15, 10, 30), "밥 먹었니?"),
+                new ParsedMessage("아들", LocalDateTime.of(2024, 1, 15, 15, 5), "네 먹었어요"),
+                new ParsedMessage("엄마", LocalDateTime.of(2024, 1, 16, 9, 0), "잘 잤니"));
+    }
+
+    @Test
+    void convertsTwelveOClockMeridiem() throws IOException {
+        List<ParsedMessage> messages = parse("""
+                --------------- 2024년 1월 15일 월요일 ---------------
+                [엄마] [오전 12:05] 자정 직후
+                [엄마] [오후 12:05] 정오 직후
+                """);
+
+        assertThat(messages).extracting(ParsedMessage::sentAt).containsExactly(
+                LocalDateTime.of(2024, 1, 15, 0, 5),
+                LocalDateTime.of(2024, 1, 15, 12, 5));
+    }
+
+    @Test
+    void parsesBothMobileDateFormats() throws IOException {
+        List<ParsedMessage> messages = parse("""
+                2024년 1월 15일 오전 10:30, 엄마 : 밥 먹었니?
+                2024. 1. 15. 오후 11:59, 아빠 : 잘 자
+                """);
+
+        assertThat(messages).containsExactly(
+                new ParsedMessage("엄마", LocalDateTime.of(2024, 1, 15, 10, 30), "밥 먹었니?"),
+                new ParsedMessage("아빠", LocalDateTime.of(2024, 1, 15, 23, 59), "잘 자"));
+    }
+
+    @Test
+    void joinsContinuationLinesAndSkipsSystemLines() throws IOException {
+        List<ParsedMessage> messages = parse("""
+                2024년 1월 15일 월요일
+                2024년 1월 15일 오전 10:30, 엄마 : 첫 줄
+                둘째 줄
+                2024년 1월 15일 오전 10:31, 아빠님이 들어왔습니다.
+                이 줄은 버려짐
+                2024년 1월 15일 오전 10:32, 아들 : 마지막
+                """);
+
+        assertThat(messages).containsExactly(
+                new ParsedMessage("엄마", LocalDateTime.of(2024, 1, 15, 10, 30), "첫 줄\n둘째 줄"),
+                new ParsedMessage("아들", LocalDateTime.of(2024, 1, 15, 10, 32), "마지막"));
+    }
+
+    @Test
+    void treatsImpossibleDateAsContinuationLine() throws IOException {
+        List<ParsedMessage> messages = parse("""
+                2024년 1월 15일 오전 10:30, 엄마 : 날짜 예시
+                2024년 2월 30일 오전 10:30, 아빠 : 없는 날짜
+                """);
+
+        assertThat(messages).containsExactly(new ParsedMessage("엄마", LocalDateTime.of(2024, 1, 15, 10, 30),
+                "날짜 예시\n2024년 2월 30일 오전 10:30, 아빠 : 없는 날짜"));
+    }
+
+    @Test
+    void stripsBomFromFirstLine() throws IOException {
+        List<ParsedMessage> text = parse("\uFEFF2024년 1월 15일 오전 10:30, 엄마 : 안녕\n");
+        List<ParsedMessage> csv = parse("\uFEFFDate,User,Message\n2024-01-15 10:30:00,\"엄마\",\"안녕\"\n");
+
+        assertThat(text).containsExactly(new ParsedMessage("엄마", LocalDateTime.of(2024, 1, 15, 10, 30), "안녕"));
+        assertThat(csv).containsExactly(new ParsedMessage("엄마", LocalDateTime.of(2024, 1, 15, 10, 30), "안녕"));
+    }
+
+    @Test
+    void parsesCsvWithQuotedNewlinesCommasAndEscapedQuotes() throws IOException {
+        List<ParsedMessage> messages = parse("Date,User,Message\r\n"
+                + "2024-01-15 10:30:00,\"엄마\",\"첫 줄\r\n둘째 줄, 쉼표\"\r\n"
+                + "2024-01-15 10:31:00,\"아들\",\"\"\"따옴표\"\" 포함\"\r\n"
+                + "2024-01-15 10:32:00,아빠,마지막");
+
+        assertThat(messages).containsExactly(
+                new ParsedMessage("엄마", LocalDateTime.of(2024, 1, 15, 10, 30), "첫 줄\n둘째 줄, 쉼표"),
+                new ParsedMessage("아들", LocalDateTime.of(2024, 1, 15, 10, 31), "\"따옴표\" 포함"),
+                new ParsedMessage("아빠", LocalDateTime.of(2024, 1, 15, 10, 32), "마지막"));
+    }
+
+    @Test
+    void skipsMalformedCsvRows() throws IOException {
+        List<ParsedMessage> messages = parse("""
+                Date,User,Message
+                not-a-date,엄마,내용
+                2024-01-15 10:30:00,엄마
+                2024-01-15 10:31:00,아빠,정상
+                """);
+
+        assertThat(messages).containsExactly(
+                new ParsedMessage("아빠", LocalDateTime.of(2024, 1, 15, 10, 31), "정상"));
+    }
+
+    @Test
+    void truncatesContentAtMaxLength() throws IOException {
+        String longLine = "가".repeat(KakaoTalkExportParser.MAX_CONTENT_LENGTH);
+
+        List<ParsedMessage> messages = parse("2024년 1월 15일 오전 10:30, 엄마 : " + longLine + "\n추가 줄\n");
+
+        assertThat(messages).singleElement()
+                .extracting(ParsedMessage::content)
+                .isEqualTo(longLine);
+    }
+
+    @Test
+    void ignoresTextBeforeFirstMessageAndEmptyInput() throws IOException {
+        assertThat(parse("")).isEmpty();
+        assertThat(parse("엄마 님과 카카오톡 대화\n저장한 날짜 : 2024-01-16 09:00:00\n")).isEmpty();
+    }
+
+    private static List<ParsedMessage> parse(String input) throws IOException {
+        List<ParsedMessage> messages = new ArrayList<>();
+        new KakaoTalkExportParser(new BufferedReader(new StringReader(input))).forEach(messages::add);
+        return messages;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.spring.conversation.support;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MessageCursorTest {
+
+    @Test
+    void roundTripsWholeMinute() {
+        MessageCursor cursor = new MessageCursor(LocalDateTime.of(2024, 1, 15, 10, 30), 42L);
+
+        assertThat(MessageCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripsSecondsAndNanos() {
+        MessageCursor cursor = new MessageCursor(LocalDateTime.of(2024, 1, 15, 10, 30, 5, 123_456_789), 7L);
+
+        assertThat(MessageCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String encoded = new MessageCursor(LocalDateTime.of(2024, 12, 31, 23, 59, 59), Long.MAX_VALUE).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not a cursor!", "%%%", "YWJj"})
+    void rejectsMalformedCursor(String cursor) {
+        assertThatThrownBy(() -> MessageCursor.decode(cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("잘못된 커서입니다");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-01-15T10:30", "2024-01-15T10:30|", "2024-01-15T10:30|abc",
+            "2024-13-15T10:30|1", "|1", "1|2024-01-15T10:30"})
+    void rejectsCursorWithInvalidParts(String raw) {
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> MessageCursor.decode(cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("잘못된 커서입니다");
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.spring.conversation.support;
+
+import com.example.spring.common.exception.ExportCapacityExceededException;
+import com.example.spring.conversation.config.ConversationProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MessageExportLimiterTest {
+
+    private final MessageExportLimiter limiter = limiter(2, Duration.ofMinutes(2));
+
+    @Test
+    void rejectsWhenAllSlotsAreTaken() {
+        limiter.acquire();
+        limiter.acquire();
+
+        assertThatThrownBy(limiter::acquire).isInstanceOf(ExportCapacityExceededException.class);
+    }
+
+    @Test
+    void releasedSlotCanBeReused() {
+        MessageExportLimiter.Permit first = limiter.acquire();
+        limiter.acquire();
+        first.release();
+
+        limiter.acquire();
+        assertThat(limiter.availableSlots()).isZero();
+    }
+
+    @Test
+    void releaseIsIdempotent() {
+        MessageExportLimiter.Permit permit = limiter.acquire();
+        permit.release();
+        permit.release();
+
+        assertThat(limiter.availableSlots()).isEqualTo(2);
+    }
+
+    @Test
+    void deadlineUsesConfiguredTimeout() {
+        MessageExportLimiter.Permit permit = limiter(1, Duration.ofSeconds(30)).acquire();
+        Instant before = Instant.now();
+
+        assertThat(permit.deadlineFromNow())
+                .isBetween(before.plusSeconds(30), Instant.now().plusSeconds(30));
+    }
+
+    private static MessageExportLimiter limiter(int maxConcurrent, Duration timeout) {
+        ConversationProperties properties = new ConversationProperties();
+        properties.getExport().setMaxConcurrent(maxConcurrent);
+        properties.getExport().setTimeout(timeout);
+        return new MessageExportLimiter(properties);
+    }
+}
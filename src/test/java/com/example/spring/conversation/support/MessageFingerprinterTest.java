@@ -0,0 +1,95 @@
+package com.example.spring.conversation.support;
+
+import com.example.spring.conversation.domain.MessageType;
+import com.example.spring.conversation.dto.MessageDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageFingerprinterTest {
+
+    private static final LocalDateTime MINUTE = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    @Test
+    void reuploadProducesSameFingerprints() {
+        List<MessageDto> upload = List.of(
+                text(1L, MINUTE, "밥 먹었니?"),
+                text(2L, MINUTE, "ㅋㅋ"),
+                text(2L, MINUTE, "ㅋㅋ"),
+                text(1L, MINUTE.plusMinutes(1), "ㅋㅋ"));
+
+        assertThat(fingerprints(MessageFingerprinter.forList(1L), upload))
+                .isEqualTo(fingerprints(MessageFingerprinter.forList(1L), upload));
+        assertThat(fingerprints(MessageFingerprinter.forChronologicalStream(1L), upload))
+                .isEqualTo(fingerprints(MessageFingerprinter.forList(1L), upload));
+    }
+
+    @Test
+    void repeatedMessagesInSameMinuteGetDistinctFingerprints() {
+        List<String> fingerprints = fingerprints(MessageFingerprinter.forList(1L), List.of(
+                text(2L, MINUTE, "ㅋㅋ"),
+                text(2L, MINUTE, "ㅋㅋ"),
+                text(2L, MINUTE, "ㅋㅋ")));
+
+        assertThat(fingerprints).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void fingerprintDependsOnEveryField() {
+        MessageDto message = text(1L, MINUTE, "안녕");
+
+        assertThat(List.of(
+                fingerprint(1L, message),
+                fingerprint(2L, message),
+                fingerprint(1L, text(2L, MINUTE, "안녕")),
+                fingerprint(1L, text(1L, MINUTE.plusMinutes(1), "안녕")),
+                fingerprint(1L, text(1L, MINUTE, "안녕!")),
+                fingerprint(1L, new MessageDto(1L, MessageType.IMAGE, "안녕", null, MINUTE)),
+                fingerprint(1L, new MessageDto(1L, MessageType.TEXT, "안녕", "https://img", MINUTE)),
+                fingerprint(1L, text(1L, MINUTE, null)),
+                fingerprint(1L, text(1L, MINUTE, ""))
+        )).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void overlappingUploadsAlignedOnMinutesShareFingerprints() {
+        MessageDto earlier = text(1L, MINUTE, "먼저");
+        MessageDto repeated = text(2L, MINUTE.plusMinutes(1), "ㅋㅋ");
+        MessageDto later = text(1L, MINUTE.plusMinutes(2), "나중");
+
+        List<String> first = fingerprints(MessageFingerprinter.forChronologicalStream(1L),
+                List.of(earlier, repeated, repeated));
+        List<String> second = fingerprints(MessageFingerprinter.forChronologicalStream(1L),
+                List.of(repeated, repeated, later));
+
+        // 겹치는 분의 메시지는 같은 지문이라 다시 저장되지 않고, 새 메시지만 새 지문을 가짐
+        assertThat(second.subList(0, 2)).isEqualTo(first.subList(1, 3));
+        assertThat(first).doesNotContain(second.get(2));
+    }
+
+    @Test
+    void uploadsSplitInsideMinuteKeepOnlyLargestRepeatCount() {
+        MessageDto repeated = text(2L, MINUTE, "ㅋㅋ");
+
+        // 같은 분의 "ㅋㅋ" 두 개가 두 업로드에 하나씩 나뉘면 둘 다 순번 0이므로 같은 지문 (분 단위 경계에서 나누어야 하는 이유)
+        String first = fingerprints(MessageFingerprinter.forList(1L), List.of(repeated)).getFirst();
+        String second = fingerprints(MessageFingerprinter.forList(1L), List.of(repeated)).getFirst();
+
+        assertThat(second).isEqualTo(first);
+    }
+
+    private static List<String> fingerprints(MessageFingerprinter fingerprinter, List<MessageDto> messages) {
+        return messages.stream().map(fingerprinter::next).toList();
+    }
+
+    private static String fingerprint(Long conversationId, MessageDto message) {
+        return MessageFingerprinter.forList(conversationId).next(message);
+    }
+
+    private static MessageDto text(Long senderId, LocalDateTime sentAt, String content) {
+        return new MessageDto(senderId, MessageType.TEXT, content, null, sentAt);
+    }
+}
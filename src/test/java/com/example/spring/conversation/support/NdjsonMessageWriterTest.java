@@ -0,0 +1,57 @@
+package com.example.spring.conversation.support;
+
+import com.example.spring.common.config.JacksonConfig;
+import com.example.spring.conversation.domain.MessageType;
+import com.example.spring.conversation.dto.MessageResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NdjsonMessageWriterTest {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Test
+    void writesOneObjectPerLineWithIsoTimestamps() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (NdjsonMessageWriter writer = new NdjsonMessageWriter(objectMapper, out)) {
+            writer.write(message(1L, LocalDateTime.of(2024, 1, 15, 10, 30), "안녕"));
+            writer.write(message(2L, LocalDateTime.of(2024, 1, 15, 10, 31, 5), "줄\n바꿈 \"인용\""));
+        }
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).isEqualTo("{\"id\":1,\"conversationId\":10,\"senderId\":100,\"senderNickname\":\"엄마\","
+                + "\"type\":\"TEXT\",\"content\":\"안녕\",\"imageUrl\":null,\"imageDescription\":null,"
+                + "\"sentAt\":\"2024-01-15T10:30:00\",\"createdAt\":\"2024-01-16T09:00:00\"}");
+        assertThat(objectMapper.readValue(lines[1], MessageResponse.class))
+                .isEqualTo(message(2L, LocalDateTime.of(2024, 1, 15, 10, 31, 5), "줄\n바꿈 \"인용\""));
+    }
+
+    @Test
+    void leavesOutputStreamOpen() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                throw new AssertionError("응답 스트림을 닫으면 안 됨");
+            }
+        };
+
+        try (NdjsonMessageWriter writer = new NdjsonMessageWriter(objectMapper, out)) {
+            writer.write(message(1L, LocalDateTime.of(2024, 1, 15, 10, 30), "안녕"));
+        }
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).endsWith("}\n");
+    }
+
+    private static MessageResponse message(Long id, LocalDateTime sentAt, String content) {
+        return new MessageResponse(id, 10L, 100L, "엄마", MessageType.TEXT, content, null, null,
+                sentAt, LocalDateTime.of(2024, 1, 16, 9, 0));
+    }
+}